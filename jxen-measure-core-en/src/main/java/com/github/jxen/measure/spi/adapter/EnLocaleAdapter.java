@@ -13,9 +13,14 @@ class EnLocaleAdapter implements LocaleAdapter {
 
   @Override
   public String name(String name, Number number) {
-    if (Math.abs(number.doubleValue()) <= 1) {
+    if (pluralForm(number) == 0) {
       return name;
     }
     return name + ".plural";
   }
+
+  @Override
+  public int pluralForm(Number number) {
+    return Math.abs(number.doubleValue()) <= 1 ? 0 : 1;
+  }
 }
@@ -1,6 +1,7 @@
 package com.github.jxen.measure.spi.adapter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import com.github.jxen.measure.format.LocaleAdapter;
 import org.junit.jupiter.api.Test;
@@ -38,4 +39,10 @@ class EnLocaleAdapterTest {
   void testSuffixPlural() {
     assertEquals("suffix", adapter.suffix("suffix", "name", 2));
   }
+
+  @Test
+  void testPluralForms() {
+    assertEquals(adapter.pluralForm(0.5), adapter.pluralForm(1));
+    assertNotEquals(adapter.pluralForm(1), adapter.pluralForm(2));
+  }
 }
@@ -28,6 +28,11 @@ class RuLocaleAdapter implements LocaleAdapter {
   private static final String PART = ".part";
   private static final String PLURAL = ".plural";
 
+  private static final int ONE = 0;
+  private static final int FEW = 1;
+  private static final int MANY = 2;
+  private static final int FRACTION = 3;
+
   private final Set<String> feminineNames = new HashSet<>();
   private final Set<String> neuterNames = new HashSet<>();
 
@@ -47,21 +52,11 @@ class RuLocaleAdapter implements LocaleAdapter {
 
   @Override
   public String name(String name, Number number) {
-    ArithmeticAware<?> adapter = Adapters.lookup(number);
-    if (!adapter.isIntegral()) {
-      return name + PART;
-    }
-    final long ten = 10;
-    long value = number.longValue();
-    long rem10 = value % ten;
-    long rem100 = value % (ten * ten);
-    final long eleven = 11;
-    if (rem10 == 1 && rem100 != eleven) {
+    int form = pluralForm(number);
+    if (form == ONE) {
       return name;
     }
-    final long five = 5;
-    final long fifteen = 15;
-    if (rem10 == 0 || rem10 >= five || rem100 >= eleven && rem100 < fifteen) {
+    if (form == MANY) {
       return name + PLURAL;
     }
     return name + PART;
@@ -69,9 +64,21 @@ class RuLocaleAdapter implements LocaleAdapter {
 
   @Override
   public String suffix(String suffix, String name, Number number) {
+    int form = pluralForm(number);
+    if (form == FRACTION) {
+      return suffix + PART + genderSuffix(name);
+    }
+    if (form == ONE) {
+      return suffix + genderSuffix(name);
+    }
+    return suffix + PLURAL + genderSuffix(name);
+  }
+
+  @Override
+  public int pluralForm(Number number) {
     ArithmeticAware<?> adapter = Adapters.lookup(number);
     if (!adapter.isIntegral()) {
-      return suffix + PART + genderSuffix(name);
+      return FRACTION;
     }
     final long ten = 10;
     long value = number.longValue();
@@ -79,9 +86,14 @@ class RuLocaleAdapter implements LocaleAdapter {
     long rem100 = value % (ten * ten);
     final long eleven = 11;
     if (rem10 == 1 && rem100 != eleven) {
-      return suffix + genderSuffix(name);
+      return ONE;
     }
-    return suffix + PLURAL + genderSuffix(name);
+    final long five = 5;
+    final long fifteen = 15;
+    if (rem10 == 0 || rem10 >= five || rem100 >= eleven && rem100 < fifteen) {
+      return MANY;
+    }
+    return FEW;
   }
 
   private String genderSuffix(String name) {
@@ -0,0 +1,56 @@
+package com.github.jxen.measure.format;
+
+import static com.github.jxen.measure.system.MetricUnits.METER;
+import static com.github.jxen.measure.system.TimeUnits.HOUR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.github.jxen.measure.unit.MetricPrefix;
+import java.util.Locale;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MeasureUnitFormatRuTest {
+
+  private static final Locale RU = new Locale("ru");
+
+  private Locale locale;
+
+  @BeforeEach
+  void setUp() {
+    locale = Locale.getDefault();
+  }
+
+  @AfterEach
+  void tearDown() {
+    Locale.setDefault(locale);
+  }
+
+  @Test
+  void testFormatLocale() {
+    assertEquals("\u043C", MeasureUnitFormat.getInstance().format(METER, RU));
+  }
+
+  @Test
+  void testSymbolFollowsDefaultLocale() {
+    Locale.setDefault(Locale.US);
+    assertEquals("m", METER.getSymbol());
+    Locale.setDefault(RU);
+    assertEquals("\u043C", METER.getSymbol());
+    Locale.setDefault(Locale.US);
+    assertEquals("m", METER.getSymbol());
+  }
+
+  @Test
+  void testParseRootSymbols() {
+    Locale.setDefault(RU);
+    assertEquals(MetricPrefix.kilo(METER).divide(HOUR), new MeasureUnitFormat().parse("km/h"));
+    assertEquals(METER, new MeasureUnitFormat().parse("m"));
+  }
+
+  @Test
+  void testParseLocalSymbols() {
+    Locale.setDefault(RU);
+    assertEquals(MetricPrefix.kilo(METER).divide(HOUR), new MeasureUnitFormat().parse("\u043A\u043C/\u0447"));
+  }
+}
@@ -1,6 +1,7 @@
 package com.github.jxen.measure.spi.adapter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import com.github.jxen.measure.format.LocaleAdapter;
 import org.junit.jupiter.api.Test;
@@ -86,4 +87,12 @@ class RuLocaleAdapterTest {
     String name = "suffix";
     assertEquals(name + ".f", adapter.suffix(name, "second", 1));
   }
+
+  @Test
+  void testPluralForms() {
+    assertEquals(adapter.pluralForm(1), adapter.pluralForm(21));
+    assertEquals(adapter.pluralForm(2), adapter.pluralForm(34));
+    assertEquals(adapter.pluralForm(5), adapter.pluralForm(12));
+    assertNotEquals(adapter.pluralForm(2), adapter.pluralForm(1.5));
+  }
 }
@@ -1,7 +1,9 @@
 package com.github.jxen.measure.converter;
 
+import com.github.jxen.math.rational.BigRational;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import javax.measure.UnitConverter;
 
 /**
@@ -11,7 +13,7 @@ import javax.measure.UnitConverter;
  *
  * @since Measure 0.1
  */
-abstract class AbstractConverter implements UnitConverter {
+abstract class AbstractConverter implements BulkConverter {
 
   @Override
   public boolean isIdentity() {
@@ -20,11 +22,57 @@ abstract class AbstractConverter implements UnitConverter {
 
   @Override
   public UnitConverter concatenate(UnitConverter converter) {
-    return Converters.IDENTITY.equals(converter) ? this : new CombineConverter(this, converter);
+    if (Converters.IDENTITY.equals(converter)) {
+      return this;
+    }
+    if (isAffine() && converter instanceof AbstractConverter && ((AbstractConverter) converter).isAffine()) {
+      AbstractConverter that = (AbstractConverter) converter;
+      // a1 * (a2 * x + b2) + b1 = (a1 * a2) * x + (a1 * b2 + b1)
+      BigRational factor = getFactor().multiply(that.getFactor());
+      BigRational offset = AffineConverter.sum(getFactor().multiply(that.getOffset()), getOffset());
+      return AffineConverter.of(factor, offset);
+    }
+    return new CombineConverter(this, converter);
+  }
+
+  @Override
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    Objects.checkFromIndexSize(srcOff, len, src.length);
+    Objects.checkFromIndexSize(dstOff, len, dst.length);
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = convert(src[srcOff + i]);
+    }
   }
 
   @Override
   public List<? extends UnitConverter> getConversionSteps() {
     return Collections.singletonList(this);
   }
+
+  /**
+   * Checks if converter can be represented in affine form {@code a * x + b}.
+   *
+   * @return {@code true} if converter is affine
+   */
+  boolean isAffine() {
+    return false;
+  }
+
+  /**
+   * Provides exact factor {@code a} of affine form.
+   *
+   * @return factor
+   */
+  BigRational getFactor() {
+    return BigRational.ONE;
+  }
+
+  /**
+   * Provides exact offset {@code b} of affine form.
+   *
+   * @return offset
+   */
+  BigRational getOffset() {
+    return AffineConverter.ZERO;
+  }
 }
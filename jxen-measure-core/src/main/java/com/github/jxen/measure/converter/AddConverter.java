@@ -1,18 +1,17 @@
 package com.github.jxen.measure.converter;
 
 import com.github.jxen.math.common.Adapters;
-import com.github.jxen.math.common.ArithmeticAware;
+import com.github.jxen.math.rational.BigRational;
 import java.util.Objects;
-import javax.measure.UnitConverter;
 
 final class AddConverter extends AbstractConverter {
 
-  private final Number offset;
-  private final ArithmeticAware<?> adapter;
+  private final BigRational offset;
+  private final double offsetValue;
 
   AddConverter(Number offset) {
-    this.offset = offset;
-    adapter = Adapters.lookup(offset);
+    this.offset = BigRational.ONE.multiply(offset);
+    offsetValue = this.offset.doubleValue();
   }
 
   @Override
@@ -22,7 +21,7 @@ final class AddConverter extends AbstractConverter {
 
   @Override
   public AddConverter inverse() {
-    return new AddConverter(adapter.negate());
+    return new AddConverter(offset.multiply(-1));
   }
 
   @Override
@@ -32,16 +31,27 @@ final class AddConverter extends AbstractConverter {
 
   @Override
   public double convert(double value) {
-    return value + offset.doubleValue();
+    return value + offsetValue;
   }
 
   @Override
-  public UnitConverter concatenate(UnitConverter converter) {
-    if (converter instanceof AddConverter) {
-      Number o = adapter.plus(((AddConverter) converter).offset);
-      return o.doubleValue() == 0 ? Converters.IDENTITY : new AddConverter(o);
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    Objects.checkFromIndexSize(srcOff, len, src.length);
+    Objects.checkFromIndexSize(dstOff, len, dst.length);
+    double o = offsetValue;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = src[srcOff + i] + o;
     }
-    return super.concatenate(converter);
+  }
+
+  @Override
+  boolean isAffine() {
+    return true;
+  }
+
+  @Override
+  BigRational getOffset() {
+    return offset;
   }
 
   @Override
@@ -0,0 +1,137 @@
+package com.github.jxen.measure.converter;
+
+import com.github.jxen.math.common.Adapters;
+import com.github.jxen.math.rational.BigRational;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.measure.UnitConverter;
+
+/**
+ * {@code AffineConverter} class is normal form of any chain of linear and offset converters: {@code a * x + b}.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+final class AffineConverter extends AbstractConverter {
+
+  static final BigRational ZERO = BigRational.valueOf(0);
+
+  private final BigRational factor;
+  private final BigRational offset;
+  private final double factorValue;
+  private final double offsetValue;
+
+  private AffineConverter(BigRational factor, BigRational offset) {
+    this.factor = factor;
+    this.offset = offset;
+    factorValue = factor.doubleValue();
+    offsetValue = offset.doubleValue();
+  }
+
+  /**
+   * Provides normalized converter for given coefficients.
+   *
+   * @param factor factor
+   * @param offset offset
+   * @return identity, multiply, add or affine converter
+   */
+  static UnitConverter of(BigRational factor, BigRational offset) {
+    // Exact comparison, so factor close to one or tiny offset is not lost.
+    boolean unit = factor.equals(BigRational.ONE);
+    boolean zero = offset.equals(ZERO);
+    if (unit && zero) {
+      return Converters.IDENTITY;
+    }
+    if (zero) {
+      return new MultiplyConverter(factor);
+    }
+    if (unit) {
+      return new AddConverter(offset);
+    }
+    return new AffineConverter(factor, offset);
+  }
+
+  static BigRational sum(BigRational a, BigRational b) {
+    return BigRational.valueOf(Adapters.lookup(a).plus(b));
+  }
+
+  @Override
+  public boolean isLinear() {
+    return false;
+  }
+
+  @Override
+  public UnitConverter inverse() {
+    // y = a * x + b => x = y / a - b / a
+    BigRational reciprocal = BigRational.valueOf(factor.reciprocal());
+    return of(reciprocal, offset.multiply(reciprocal).multiply(-1));
+  }
+
+  @Override
+  public Number convert(Number value) {
+    return Adapters.lookup(Adapters.lookup(value).multiply(factor)).plus(offset);
+  }
+
+  @Override
+  public double convert(double value) {
+    return value * factorValue + offsetValue;
+  }
+
+  @Override
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    Objects.checkFromIndexSize(srcOff, len, src.length);
+    Objects.checkFromIndexSize(dstOff, len, dst.length);
+    double a = factorValue;
+    double b = offsetValue;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = src[srcOff + i] * a + b;
+    }
+  }
+
+  @Override
+  public List<UnitConverter> getConversionSteps() {
+    return Arrays.asList(new AddConverter(offset), new MultiplyConverter(factor));
+  }
+
+  @Override
+  boolean isAffine() {
+    return true;
+  }
+
+  @Override
+  BigRational getFactor() {
+    return factor;
+  }
+
+  @Override
+  BigRational getOffset() {
+    return offset;
+  }
+
+  @Override
+  public String toString() {
+    return "AffineConverter(" + factor + "," + offset + ")";
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null) {
+      return false;
+    }
+    if (getClass() != o.getClass()) {
+      return false;
+    }
+    AffineConverter that = (AffineConverter) o;
+    return factor.equals(that.factor) && offset.equals(that.offset);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(factor, offset);
+  }
+}
@@ -0,0 +1,59 @@
+package com.github.jxen.measure.converter;
+
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import javax.measure.UnitConverter;
+
+/**
+ * {@code BulkConverter} interface is extension of {@link UnitConverter} able to convert arrays of values at once.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+public interface BulkConverter extends UnitConverter {
+
+  /**
+   * Converts {@code len} values from source array to destination array.
+   * Source and destination can be the same region of the same array, but otherwise must not overlap.
+   *
+   * @param src    source array
+   * @param srcOff source offset
+   * @param dst    destination array
+   * @param dstOff destination offset
+   * @param len    number of values
+   */
+  void convert(double[] src, int srcOff, double[] dst, int dstOff, int len);
+
+  /**
+   * Converts all values of given array in place.
+   *
+   * @param values values
+   */
+  default void convert(double[] values) {
+    convert(values, 0, values, 0, values.length);
+  }
+
+  /**
+   * Converts remaining values of source buffer into destination buffer.
+   * Positions of both buffers are advanced by the number of converted values.
+   *
+   * @param src source buffer
+   * @param dst destination buffer
+   */
+  default void convert(DoubleBuffer src, DoubleBuffer dst) {
+    int len = src.remaining();
+    if (dst.remaining() < len) {
+      throw new BufferOverflowException();
+    }
+    if (src.hasArray() && dst.hasArray()) {
+      convert(src.array(), src.arrayOffset() + src.position(), dst.array(), dst.arrayOffset() + dst.position(), len);
+      src.position(src.position() + len);
+      dst.position(dst.position() + len);
+      return;
+    }
+    for (int i = 0; i < len; i++) {
+      dst.put(convert(src.get()));
+    }
+  }
+}
@@ -35,6 +35,12 @@ final class CombineConverter extends AbstractConverter {
     return left.convert(right.convert(value));
   }
 
+  @Override
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    Converters.convert(right, src, srcOff, dst, dstOff, len);
+    Converters.convert(left, dst, dstOff, dst, dstOff, len);
+  }
+
   @Override
   public List<UnitConverter> getConversionSteps() {
     List<UnitConverter> steps = new ArrayList<>();
@@ -0,0 +1,283 @@
+package com.github.jxen.measure.converter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import javax.measure.MeasurementException;
+import javax.measure.UnitConverter;
+
+/**
+ * {@code ConverterCompiler} class turns conversion steps into single {@link DoubleUnaryOperator}.
+ * Consecutive affine steps are folded exactly into one {@code a * x + b} operation. Chains containing other steps
+ * are built as one method handle per converter, with constants and steps bound into it. Each such handle is kept
+ * in {@code static final} field of its own generated class, so every chain has its own constant call site.
+ * Generated class is defined by its own class loader and is unloaded together with the operator.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+final class ConverterCompiler {
+
+  private static final MethodHandle MULTIPLY;
+  private static final MethodHandle ADD;
+  private static final MethodHandle AFFINE;
+  private static final MethodHandle CONVERT;
+  private static final String CHAIN = "com/github/jxen/measure/converter/CompiledChain";
+  private static final byte[] CHAIN_CLASS = chainClass();
+
+  static {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    MethodType unary = MethodType.methodType(double.class, double.class);
+    MethodType binary = unary.insertParameterTypes(0, double.class);
+    try {
+      MULTIPLY = lookup.findStatic(ConverterCompiler.class, "multiply", binary);
+      ADD = lookup.findStatic(ConverterCompiler.class, "add", binary);
+      AFFINE = lookup.findStatic(ConverterCompiler.class, "affine", binary.insertParameterTypes(0, double.class));
+      CONVERT = lookup.findVirtual(UnitConverter.class, "convert", unary);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private ConverterCompiler() {
+  }
+
+  static DoubleUnaryOperator compile(UnitConverter converter) {
+    if (converter.isIdentity()) {
+      return DoubleUnaryOperator.identity();
+    }
+    List<? extends UnitConverter> steps = converter.getConversionSteps();
+    if (steps.isEmpty()) {
+      return converter::convert;
+    }
+    MethodHandle chain = null;
+    UnitConverter affine = Converters.IDENTITY;
+    // The last step is applied first.
+    for (int i = steps.size() - 1; i >= 0; i--) {
+      UnitConverter step = steps.get(i);
+      if (step.isIdentity()) {
+        continue;
+      }
+      if (step instanceof AbstractConverter && ((AbstractConverter) step).isAffine()) {
+        affine = step.concatenate(affine);
+        continue;
+      }
+      chain = then(then(chain, toHandle(affine)), CONVERT.bindTo(step));
+      affine = Converters.IDENTITY;
+    }
+    if (chain == null) {
+      return toOperator(affine);
+    }
+    return define(then(chain, toHandle(affine)));
+  }
+
+  private static MethodHandle then(MethodHandle first, MethodHandle second) {
+    if (first == null) {
+      return second;
+    }
+    if (second == null) {
+      return first;
+    }
+    return MethodHandles.filterReturnValue(first, second);
+  }
+
+  private static MethodHandle toHandle(UnitConverter converter) {
+    if (converter.isIdentity()) {
+      return null;
+    }
+    AbstractConverter affine = (AbstractConverter) converter;
+    double a = affine.getFactor().doubleValue();
+    double b = affine.getOffset().doubleValue();
+    if (b == 0) {
+      return MethodHandles.insertArguments(MULTIPLY, 0, a);
+    }
+    if (a == 1) {
+      return MethodHandles.insertArguments(ADD, 0, b);
+    }
+    return MethodHandles.insertArguments(AFFINE, 0, a, b);
+  }
+
+  private static DoubleUnaryOperator toOperator(UnitConverter converter) {
+    if (converter.isIdentity()) {
+      return DoubleUnaryOperator.identity();
+    }
+    AbstractConverter affine = (AbstractConverter) converter;
+    double a = affine.getFactor().doubleValue();
+    double b = affine.getOffset().doubleValue();
+    if (b == 0) {
+      return x -> x * a;
+    }
+    if (a == 1) {
+      return x -> x + b;
+    }
+    return x -> x * a + b;
+  }
+
+  private static double multiply(double a, double x) {
+    return x * a;
+  }
+
+  private static double add(double b, double x) {
+    return x + b;
+  }
+
+  private static double affine(double a, double b, double x) {
+    return x * a + b;
+  }
+
+  private static DoubleUnaryOperator define(MethodHandle handle) {
+    try {
+      Class<?> type = new ChainLoader(handle).define();
+      return (DoubleUnaryOperator) type.getConstructor().newInstance();
+    } catch (ReflectiveOperationException | LinkageError e) {
+      throw new MeasurementException("Cannot compile converter", e);
+    }
+  }
+
+  /**
+   * Provides bytes of the class below, which takes its handle from defining class loader.
+   * <pre>
+   * public final class CompiledChain implements DoubleUnaryOperator {
+   *   private static final MethodHandle HANDLE =
+   *       (MethodHandle) ((Supplier) CompiledChain.class.getClassLoader()).get();
+   *
+   *   public double applyAsDouble(double operand) {
+   *     return (double) HANDLE.invokeExact(operand);
+   *   }
+   * }
+   * </pre>
+   *
+   * @return class file
+   */
+  private static byte[] chainClass() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeInt(0xCAFEBABE);
+      out.writeShort(0);
+      out.writeShort(52);
+      // Constant pool
+      out.writeShort(36);
+      utf8(out, CHAIN);                                       // #1
+      reference(out, 7, 1);                                   // #2
+      utf8(out, "java/lang/Object");                          // #3
+      reference(out, 7, 3);                                   // #4
+      utf8(out, "java/util/function/DoubleUnaryOperator");    // #5
+      reference(out, 7, 5);                                   // #6
+      utf8(out, "HANDLE");                                    // #7
+      utf8(out, "Ljava/lang/invoke/MethodHandle;");           // #8
+      utf8(out, "<clinit>");                                  // #9
+      utf8(out, "()V");                                       // #10
+      utf8(out, "Code");                                      // #11
+      utf8(out, "<init>");                                    // #12
+      utf8(out, "applyAsDouble");                             // #13
+      utf8(out, "(D)D");                                      // #14
+      reference(out, 12, 7, 8);                               // #15
+      reference(out, 9, 2, 15);                               // #16 HANDLE
+      reference(out, 12, 12, 10);                             // #17
+      reference(out, 10, 4, 17);                              // #18 Object.<init>
+      utf8(out, "java/lang/Class");                           // #19
+      reference(out, 7, 19);                                  // #20
+      utf8(out, "getClassLoader");                            // #21
+      utf8(out, "()Ljava/lang/ClassLoader;");                 // #22
+      reference(out, 12, 21, 22);                             // #23
+      reference(out, 10, 20, 23);                             // #24 Class.getClassLoader
+      utf8(out, Supplier.class.getName().replace('.', '/'));  // #25
+      reference(out, 7, 25);                                  // #26
+      utf8(out, "get");                                       // #27
+      utf8(out, "()Ljava/lang/Object;");                      // #28
+      reference(out, 12, 27, 28);                             // #29
+      reference(out, 11, 26, 29);                             // #30 Supplier.get
+      utf8(out, "java/lang/invoke/MethodHandle");             // #31
+      reference(out, 7, 31);                                  // #32
+      utf8(out, "invokeExact");                               // #33
+      reference(out, 12, 33, 14);                             // #34
+      reference(out, 10, 32, 34);                             // #35 MethodHandle.invokeExact
+      // public final super, this, super, interfaces
+      out.writeShort(0x0031);
+      out.writeShort(2);
+      out.writeShort(4);
+      out.writeShort(1);
+      out.writeShort(6);
+      // private static final HANDLE
+      out.writeShort(1);
+      out.writeShort(0x001A);
+      out.writeShort(7);
+      out.writeShort(8);
+      out.writeShort(0);
+      out.writeShort(3);
+      // ldc CompiledChain, invokevirtual getClassLoader, checkcast Supplier, invokeinterface get,
+      // checkcast MethodHandle, putstatic HANDLE, return
+      method(out, 0x0008, 9, 10, 1, 0, 0x12, 2, 0xB6, 0, 24, 0xC0, 0, 26, 0xB9, 0, 30, 1, 0, 0xC0, 0, 32,
+          0xB3, 0, 16, 0xB1);
+      // aload_0, invokespecial Object.<init>, return
+      method(out, 0x0001, 12, 10, 1, 1, 0x2A, 0xB7, 0, 18, 0xB1);
+      // getstatic HANDLE, dload_1, invokevirtual invokeExact, dreturn
+      method(out, 0x0011, 13, 14, 3, 3, 0xB2, 0, 16, 0x27, 0xB6, 0, 35, 0xAF);
+      // No attributes
+      out.writeShort(0);
+    } catch (IOException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static void utf8(DataOutputStream out, String value) throws IOException {
+    out.writeByte(1);
+    out.writeUTF(value);
+  }
+
+  private static void reference(DataOutputStream out, int tag, int... indexes) throws IOException {
+    out.writeByte(tag);
+    for (int index : indexes) {
+      out.writeShort(index);
+    }
+  }
+
+  private static void method(DataOutputStream out, int access, int name, int descriptor, int maxStack, int maxLocals,
+      int... code) throws IOException {
+    out.writeShort(access);
+    out.writeShort(name);
+    out.writeShort(descriptor);
+    out.writeShort(1);
+    out.writeShort(11);
+    out.writeInt(12 + code.length);
+    out.writeShort(maxStack);
+    out.writeShort(maxLocals);
+    out.writeInt(code.length);
+    for (int b : code) {
+      out.writeByte(b);
+    }
+    // No exception table and attributes
+    out.writeShort(0);
+    out.writeShort(0);
+  }
+
+  /**
+   * {@code ChainLoader} class defines one compiled chain class and hands the chain over to it.
+   */
+  private static final class ChainLoader extends ClassLoader implements Supplier<MethodHandle> {
+
+    private final MethodHandle handle;
+
+    private ChainLoader(MethodHandle handle) {
+      super(ConverterCompiler.class.getClassLoader());
+      this.handle = handle;
+    }
+
+    Class<?> define() {
+      return defineClass(CHAIN.replace('/', '.'), CHAIN_CLASS, 0, CHAIN_CLASS.length);
+    }
+
+    @Override
+    public MethodHandle get() {
+      return handle;
+    }
+  }
+}
@@ -1,7 +1,10 @@
 package com.github.jxen.measure.converter;
 
+import com.github.jxen.math.rational.BigRational;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
 import javax.measure.UnitConverter;
 
 /**
@@ -31,7 +34,7 @@ public final class Converters {
     if (offset == null) {
       throw new IllegalArgumentException("Offset cannot be null");
     }
-    if (offset.doubleValue() == 0) {
+    if (offset.doubleValue() == 0 && AffineConverter.ZERO.equals(BigRational.ONE.multiply(offset))) {
       return IDENTITY;
     }
     return new AddConverter(offset);
@@ -47,13 +50,100 @@ public final class Converters {
     if (factor == null || factor.doubleValue() == 0) {
       throw new IllegalArgumentException("Factor cannot be null or zero");
     }
-    if (factor.doubleValue() == 1) {
+    if (factor.doubleValue() == 1 && Factor.ONE.equals(Factor.of(factor))) {
       return IDENTITY;
     }
     return new MultiplyConverter(factor);
   }
 
-  private static class IdentityConverter implements UnitConverter {
+  /**
+   * Raises linear converter to given power in one step.
+   *
+   * @param converter linear converter
+   * @param n         exponent
+   * @return converter
+   */
+  public static UnitConverter pow(UnitConverter converter, int n) {
+    if (!converter.isLinear()) {
+      throw new UnsupportedOperationException(converter + " is non-linear, cannot raise to power");
+    }
+    if (converter.isIdentity() || n == 1) {
+      return converter;
+    }
+    if (converter instanceof MultiplyConverter) {
+      return ((MultiplyConverter) converter).pow(n);
+    }
+    UnitConverter c = n < 0 ? converter.inverse() : converter;
+    UnitConverter result = IDENTITY;
+    for (int i = 0; i < Math.abs(n); i++) {
+      result = result.concatenate(c);
+    }
+    return result;
+  }
+
+  /**
+   * Evaluates root of linear converter.
+   *
+   * @param converter linear converter
+   * @param n         order of root
+   * @return converter
+   */
+  public static UnitConverter root(UnitConverter converter, int n) {
+    if (n == 0) {
+      throw new ArithmeticException("Root's order of zero");
+    }
+    if (!converter.isLinear()) {
+      throw new UnsupportedOperationException(converter + " is non-linear, cannot evaluate root");
+    }
+    if (converter.isIdentity() || n == 1) {
+      return converter;
+    }
+    if (converter instanceof MultiplyConverter) {
+      return ((MultiplyConverter) converter).root(n);
+    }
+    throw new UnsupportedOperationException("Cannot evaluate root of " + converter);
+  }
+
+  /**
+   * Converts {@code len} values from source array to destination array with given converter.
+   * Uses bulk conversion if converter supports it, otherwise converts values one by one.
+   *
+   * @param converter converter
+   * @param src       source array
+   * @param srcOff    source offset
+   * @param dst       destination array
+   * @param dstOff    destination offset
+   * @param len       number of values
+   */
+  public static void convert(UnitConverter converter, double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    if (converter instanceof BulkConverter) {
+      ((BulkConverter) converter).convert(src, srcOff, dst, dstOff, len);
+      return;
+    }
+    Objects.checkFromIndexSize(srcOff, len, src.length);
+    Objects.checkFromIndexSize(dstOff, len, dst.length);
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = converter.convert(src[srcOff + i]);
+    }
+  }
+
+  /**
+   * Compiles given converter into single operator with all constants folded in.
+   * Converters which cannot be compiled are wrapped as is.
+   *
+   * @param converter converter
+   * @return operator equivalent to {@link UnitConverter#convert(double)}
+   */
+  public static DoubleUnaryOperator compile(UnitConverter converter) {
+    try {
+      return ConverterCompiler.compile(converter);
+    } catch (UnsupportedOperationException e) {
+      // Converter does not provide its conversion steps
+      return converter::convert;
+    }
+  }
+
+  private static class IdentityConverter implements BulkConverter {
 
     @Override
     public boolean isIdentity() {
@@ -80,6 +170,13 @@ public final class Converters {
       return value;
     }
 
+    @Override
+    public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+      if (src != dst || srcOff != dstOff) {
+        System.arraycopy(src, srcOff, dst, dstOff, len);
+      }
+    }
+
     @Override
     public UnitConverter concatenate(UnitConverter converter) {
       return converter;
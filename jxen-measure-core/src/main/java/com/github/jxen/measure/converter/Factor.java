@@ -0,0 +1,300 @@
+package com.github.jxen.measure.converter;
+
+import com.github.jxen.math.rational.BigRational;
+import java.math.BigInteger;
+
+/**
+ * {@code Factor} class represents exact rational factor of converter.
+ * Small rationals are kept as pair of {@code long} values with overflow checked arithmetic,
+ * {@link BigRational} is used only if numerator or denominator does not fit into {@code long}.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+final class Factor {
+
+  private static final long EXACT_DOUBLE = 1L << 53;
+  private static final int MAX_TERMS = 64;
+
+  /**
+   * One.
+   */
+  static final Factor ONE = new Factor(1, 1);
+
+  private final long numerator;
+  private final long denominator;
+  private final double value;
+  private volatile BigRational big;
+
+  private Factor(long numerator, long denominator) {
+    this.numerator = numerator;
+    this.denominator = denominator;
+    if (Math.abs(numerator) < EXACT_DOUBLE && denominator < EXACT_DOUBLE) {
+      value = (double) numerator / denominator;
+    } else {
+      value = toBigRational().doubleValue();
+    }
+  }
+
+  private Factor(BigRational big) {
+    numerator = 0;
+    denominator = 0;
+    this.big = big;
+    value = big.doubleValue();
+  }
+
+  /**
+   * Provides factor for given number.
+   *
+   * @param number number
+   * @return factor
+   */
+  static Factor of(Number number) {
+    if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+      return new Factor(number.longValue(), 1);
+    }
+    BigRational exact = BigRational.ONE.multiply(number);
+    Factor small = approximate(exact.doubleValue());
+    if (small != null && small.toBigRational().equals(exact)) {
+      return small;
+    }
+    return new Factor(exact);
+  }
+
+  /**
+   * Provides factor for given rational number.
+   *
+   * @param numerator   numerator
+   * @param denominator denominator
+   * @return factor
+   */
+  static Factor of(long numerator, long denominator) {
+    if (denominator == 0) {
+      throw new ArithmeticException("Denominator is zero");
+    }
+    try {
+      long n = numerator;
+      long d = denominator;
+      if (d < 0) {
+        n = Math.negateExact(n);
+        d = Math.negateExact(d);
+      }
+      long gcd = gcd(Math.abs(n), d);
+      return new Factor(n / gcd, d / gcd);
+    } catch (ArithmeticException e) {
+      return new Factor(new BigRational(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator)));
+    }
+  }
+
+  double doubleValue() {
+    return value;
+  }
+
+  boolean isSmall() {
+    return denominator != 0;
+  }
+
+  long getNumerator() {
+    return numerator;
+  }
+
+  long getDenominator() {
+    return denominator;
+  }
+
+  BigRational toBigRational() {
+    BigRational result = big;
+    if (result == null) {
+      result = new BigRational(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+      big = result;
+    }
+    return result;
+  }
+
+  Factor multiply(Factor that) {
+    if (isSmall() && that.isSmall()) {
+      try {
+        long g1 = gcd(Math.abs(numerator), that.denominator);
+        long g2 = gcd(Math.abs(that.numerator), denominator);
+        long n = Math.multiplyExact(numerator / g1, that.numerator / g2);
+        long d = Math.multiplyExact(denominator / g2, that.denominator / g1);
+        return new Factor(n, d);
+      } catch (ArithmeticException e) {
+        // Overflow, falls back to BigRational.
+      }
+    }
+    return of(toBigRational().multiply(that.toBigRational()));
+  }
+
+  Factor reciprocal() {
+    if (isSmall()) {
+      return of(denominator, numerator);
+    }
+    return of(big.reciprocal());
+  }
+
+  Factor pow(long n) {
+    Factor result = ONE;
+    Factor base = this;
+    long e = n;
+    while (e > 0) {
+      if ((e & 1) != 0) {
+        result = result.multiply(base);
+      }
+      e >>>= 1;
+      if (e > 0) {
+        base = base.multiply(base);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Provides exponent {@code k} of decomposition {@code factor = remainder * 10^k}, where denominator of
+   * remainder has no factors 2 and 5, and numerator is not divisible by 10.
+   *
+   * @return exponent of power of ten
+   */
+  int tenExponent() {
+    return splitTen().exponent;
+  }
+
+  /**
+   * Provides remainder of decomposition {@code factor = remainder * 10^k}.
+   *
+   * @return remainder
+   * @see #tenExponent()
+   */
+  Factor tenRemainder() {
+    return splitTen().remainder;
+  }
+
+  /**
+   * Provides decomposition {@code factor = remainder * 10^k}, both parts are evaluated at once.
+   *
+   * @return decomposition
+   * @see #tenExponent()
+   */
+  TenSplit splitTen() {
+    if (!isSmall() || numerator == 0) {
+      return new TenSplit(0, this);
+    }
+    long n = numerator;
+    long d = denominator;
+    long exponent = 0;
+    while (n % 10 == 0) {
+      n /= 10;
+      exponent++;
+    }
+    int twos = 0;
+    while (d % 2 == 0) {
+      d /= 2;
+      twos++;
+    }
+    int fives = 0;
+    while (d % 5 == 0) {
+      d /= 5;
+      fives++;
+    }
+    int k = Math.max(twos, fives);
+    try {
+      for (int i = twos; i < k; i++) {
+        n = Math.multiplyExact(n, 2);
+      }
+      for (int i = fives; i < k; i++) {
+        n = Math.multiplyExact(n, 5);
+      }
+    } catch (ArithmeticException e) {
+      return new TenSplit(0, this);
+    }
+    return new TenSplit((int) (exponent - k), new Factor(n, d));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null) {
+      return false;
+    }
+    if (getClass() != o.getClass()) {
+      return false;
+    }
+    Factor that = (Factor) o;
+    if (isSmall() && that.isSmall()) {
+      return numerator == that.numerator && denominator == that.denominator;
+    }
+    return toBigRational().equals(that.toBigRational());
+  }
+
+  @Override
+  public int hashCode() {
+    return toBigRational().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return toBigRational().toString();
+  }
+
+  /**
+   * Finds the simplest rational with {@code long} numerator and denominator which rounds to given value.
+   *
+   * @param d value
+   * @return rational or {@code null}
+   */
+  private static Factor approximate(double d) {
+    if (Double.isNaN(d) || Double.isInfinite(d) || d == 0) {
+      return null;
+    }
+    double x = Math.abs(d);
+    long p0 = 0;
+    long q0 = 1;
+    long p1 = 1;
+    long q1 = 0;
+    try {
+      for (int i = 0; i < MAX_TERMS; i++) {
+        double a = Math.floor(x);
+        if (a >= EXACT_DOUBLE) {
+          return null;
+        }
+        long p2 = Math.addExact(Math.multiplyExact((long) a, p1), p0);
+        long q2 = Math.addExact(Math.multiplyExact((long) a, q1), q0);
+        if (p2 >= EXACT_DOUBLE || q2 >= EXACT_DOUBLE) {
+          return null;
+        }
+        if ((double) p2 / q2 == Math.abs(d)) {
+          return new Factor(d < 0 ? -p2 : p2, q2);
+        }
+        p0 = p1;
+        q0 = q1;
+        p1 = p2;
+        q1 = q2;
+        x = 1 / (x - a);
+      }
+    } catch (ArithmeticException e) {
+      // Overflow, no small approximation.
+    }
+    return null;
+  }
+
+  private static long gcd(long m, long n) {
+    return n == 0 ? m : gcd(n, m % n);
+  }
+
+  /**
+   * {@code TenSplit} class keeps decomposition of factor into power of ten and remainder.
+   */
+  static final class TenSplit {
+
+    final int exponent;
+    final Factor remainder;
+
+    private TenSplit(int exponent, Factor remainder) {
+      this.exponent = exponent;
+      this.remainder = remainder;
+    }
+  }
+}
@@ -2,15 +2,35 @@ package com.github.jxen.measure.converter;
 
 import com.github.jxen.math.common.Adapters;
 import com.github.jxen.math.rational.BigRational;
+import java.math.BigDecimal;
 import java.util.Objects;
 import javax.measure.UnitConverter;
 
 final class MultiplyConverter extends AbstractConverter {
 
-  private final BigRational factor;
+  private final Factor factor;
+  private final double factorValue;
+  private final int tenExponent;
+  private final BigDecimal tenMultiplier;
+  private final BigRational tenRemainder;
 
   MultiplyConverter(Number factor) {
-    this.factor = BigRational.ONE.multiply(factor);
+    this(Factor.of(factor));
+  }
+
+  private MultiplyConverter(Factor factor) {
+    this.factor = factor;
+    factorValue = factor.doubleValue();
+    Factor.TenSplit split = factor.splitTen();
+    tenExponent = split.exponent;
+    Factor remainder = split.remainder;
+    if (remainder.isSmall() && remainder.getDenominator() == 1) {
+      tenMultiplier = remainder.getNumerator() == 1 ? null : BigDecimal.valueOf(remainder.getNumerator());
+      tenRemainder = null;
+    } else {
+      tenMultiplier = null;
+      tenRemainder = remainder.toBigRational();
+    }
   }
 
   @Override
@@ -23,24 +43,105 @@ final class MultiplyConverter extends AbstractConverter {
     return new MultiplyConverter(factor.reciprocal());
   }
 
+  @Override
+  public UnitConverter concatenate(UnitConverter converter) {
+    if (converter instanceof MultiplyConverter) {
+      return of(factor.multiply(((MultiplyConverter) converter).factor));
+    }
+    return super.concatenate(converter);
+  }
+
   @Override
   public Number convert(Number value) {
-    return Adapters.lookup(value).multiply(factor);
+    if (value instanceof Double) {
+      return value.doubleValue() * factorValue;
+    }
+    if (value instanceof BigDecimal && tenExponent != 0) {
+      return scale((BigDecimal) value);
+    }
+    return Adapters.lookup(value).multiply(factor.toBigRational());
+  }
+
+  // factor = remainder * 10^k, the power of ten is applied exactly by scale adjustment.
+  private Number scale(BigDecimal value) {
+    if (tenRemainder != null) {
+      return Adapters.lookup(value.scaleByPowerOfTen(tenExponent)).multiply(tenRemainder);
+    }
+    BigDecimal result = tenMultiplier == null ? value : value.multiply(tenMultiplier);
+    return result.scaleByPowerOfTen(tenExponent);
   }
 
   @Override
   public double convert(double value) {
-    return value * factor.doubleValue();
+    return value * factorValue;
   }
 
   @Override
-  public UnitConverter concatenate(UnitConverter converter) {
-    if (converter instanceof MultiplyConverter) {
-      MultiplyConverter c = (MultiplyConverter) converter;
-      Number f = factor.multiply(c.factor);
-      return f.doubleValue() == 1 ? Converters.IDENTITY : new MultiplyConverter(f);
+  public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+    Objects.checkFromIndexSize(srcOff, len, src.length);
+    Objects.checkFromIndexSize(dstOff, len, dst.length);
+    double f = factorValue;
+    for (int i = 0; i < len; i++) {
+      dst[dstOff + i] = src[srcOff + i] * f;
     }
-    return super.concatenate(converter);
+  }
+
+  /**
+   * Raises converter to given power exactly.
+   *
+   * @param n exponent
+   * @return converter with factor {@code factor^n}
+   */
+  UnitConverter pow(int n) {
+    if (n < 0) {
+      return of(factor.reciprocal().pow(-(long) n));
+    }
+    return of(factor.pow(n));
+  }
+
+  /**
+   * Evaluates root of converter.
+   * The result is exact if factor is a power of integer or of reciprocal of integer, otherwise it is rounded.
+   *
+   * @param n order of root
+   * @return converter with factor {@code factor^(1/n)}
+   */
+  UnitConverter root(int n) {
+    if (n == 0) {
+      throw new ArithmeticException("Root's order of zero");
+    }
+    if (n < 0) {
+      return root(-n).inverse();
+    }
+    if (n == 1) {
+      return this;
+    }
+    double value = Math.pow(factorValue, 1.0 / n);
+    if (Double.isNaN(value) || value == 0 || Double.isInfinite(value)) {
+      throw new ArithmeticException("Cannot evaluate root of order " + n + " for " + factor);
+    }
+    Factor candidate = value >= 1 ? Factor.of(Math.round(value), 1) : Factor.of(1, Math.round(1 / value));
+    if (candidate.pow(n).equals(factor)) {
+      return of(candidate);
+    }
+    return Converters.fromFactor(value);
+  }
+
+  private static UnitConverter of(Factor factor) {
+    if (factor.equals(Factor.ONE)) {
+      return Converters.IDENTITY;
+    }
+    return new MultiplyConverter(factor);
+  }
+
+  @Override
+  boolean isAffine() {
+    return true;
+  }
+
+  @Override
+  BigRational getFactor() {
+    return factor.toBigRational();
   }
 
   @Override
@@ -54,21 +54,21 @@ enum BaseDimension implements Dimension {
 
   @Override
   public Dimension multiply(Dimension dimension) {
-    return new ProductDimension().multiply(this).multiply(dimension);
+    return ProductDimension.of(this).multiply(dimension);
   }
 
   @Override
   public Dimension divide(Dimension dimension) {
-    return new ProductDimension().multiply(this).divide(dimension);
+    return ProductDimension.of(this).divide(dimension);
   }
 
   @Override
   public Dimension pow(int n) {
-    return new ProductDimension().multiply(this).pow(n);
+    return ProductDimension.of(this).pow(n);
   }
 
   @Override
   public Dimension root(int n) {
-    throw new ArithmeticException("Unsupported operation");
+    return ProductDimension.of(this).root(n);
   }
 }
@@ -14,7 +14,7 @@ public final class Dimensions {
   /**
    * Dimensionless.
    */
-  public static final Dimension DIMENSIONLESS = new ProductDimension();
+  public static final Dimension DIMENSIONLESS = ProductDimension.NONE;
 
   /**
    * Length.
@@ -1,98 +1,163 @@
 package com.github.jxen.measure.dimension;
 
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import javax.measure.Dimension;
 
-class ProductDimension implements Dimension {
+/**
+ * {@code ProductDimension} class represents product of base dimensions with rational exponents.
+ * Exponents are packed in two {@code long} values: a signed byte for numerator and an unsigned byte for denominator
+ * of each base dimension. Instances are interned, so in most cases equal dimensions are the same object.
+ * Results of dimension algebra are canonical: single base dimension with exponent one is {@link BaseDimension}.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.1
+ */
+final class ProductDimension implements Dimension {
 
-  private final Map<BaseDimension, Integer> data;
+  private static final BaseDimension[] BASES = BaseDimension.values();
+  private static final int BITS = 8;
+  private static final int MASK = 0xFF;
+  private static final long ONES = 0x01010101010101L;
+  private static final int TABLE_SIZE = 1024;
+  private static final int PROBES = 16;
+  private static final AtomicReferenceArray<ProductDimension> TABLE = new AtomicReferenceArray<>(TABLE_SIZE);
 
-  ProductDimension() {
-    data = new EnumMap<>(BaseDimension.class);
-  }
+  /**
+   * Dimensionless.
+   */
+  static final ProductDimension NONE = intern(0, ONES);
+
+  private final long numerators;
+  private final long denominators;
+  private volatile Map<BaseDimension, Integer> base;
 
-  ProductDimension(Map<BaseDimension, Integer> data) {
-    this.data = data;
+  private ProductDimension(long numerators, long denominators) {
+    this.numerators = numerators;
+    this.denominators = denominators;
   }
 
-  @Override
-  public Map<? extends Dimension, Integer> getBaseDimensions() {
-    return data;
+  /**
+   * Provides packed representation of given dimension for dimension algebra.
+   *
+   * @param dimension dimension
+   * @return packed dimension
+   */
+  static ProductDimension of(Dimension dimension) {
+    if (dimension instanceof ProductDimension) {
+      return (ProductDimension) dimension;
+    }
+    if (dimension instanceof BaseDimension) {
+      return intern(1L << ((BaseDimension) dimension).ordinal() * BITS, ONES);
+    }
+    long n = 0;
+    for (Map.Entry<? extends Dimension, Integer> e : dimension.getBaseDimensions().entrySet()) {
+      if (!(e.getKey() instanceof BaseDimension)) {
+        throw new ArithmeticException("Unsupported dimension: " + e.getKey());
+      }
+      n = with(n, ((BaseDimension) e.getKey()).ordinal(), numerator(e.getValue()));
+    }
+    return intern(n, ONES);
   }
 
-  @Override
-  public Dimension multiply(Dimension dimension) {
-    Map<BaseDimension, Integer> map = new EnumMap<>(BaseDimension.class);
-    for (BaseDimension d : BaseDimension.values()) {
-      int value = 0;
-      Integer i = data.get(d);
-      if (i != null) {
-        value += i;
+  private static Dimension of(long numerators, long denominators) {
+    if (denominators == ONES) {
+      for (BaseDimension d : BASES) {
+        if (numerators == 1L << d.ordinal() * BITS) {
+          return d;
+        }
       }
-      i = dimension.getBaseDimensions().get(d);
-      if (i != null) {
-        value += i;
+    }
+    return intern(numerators, denominators);
+  }
+
+  private static ProductDimension intern(long numerators, long denominators) {
+    int hash = hash(numerators, denominators);
+    for (int i = 0; i < PROBES; i++) {
+      int index = (hash + i) & (TABLE_SIZE - 1);
+      ProductDimension d = TABLE.get(index);
+      if (d == null) {
+        ProductDimension created = new ProductDimension(numerators, denominators);
+        if (TABLE.compareAndSet(index, null, created)) {
+          return created;
+        }
+        d = TABLE.get(index);
       }
-      if (value != 0) {
-        map.put(d, value);
+      if (d.numerators == numerators && d.denominators == denominators) {
+        return d;
       }
     }
-    return new ProductDimension(map);
+    // Table is crowded, the instance is still equal to other ones.
+    return new ProductDimension(numerators, denominators);
   }
 
   @Override
-  public Dimension divide(Dimension dimension) {
-    Map<BaseDimension, Integer> map = new EnumMap<>(BaseDimension.class);
-    for (BaseDimension d : BaseDimension.values()) {
-      int value = 0;
-      Integer i = data.get(d);
-      if (i != null) {
-        value += i;
-      }
-      i = dimension.getBaseDimensions().get(d);
-      if (i != null) {
-        value -= i;
+  public Map<? extends Dimension, Integer> getBaseDimensions() {
+    Map<BaseDimension, Integer> map = base;
+    if (map == null) {
+      if (denominators != ONES) {
+        throw new ArithmeticException("Dimension has fractional exponent: " + this);
       }
-      if (value != 0) {
-        map.put(d, value);
+      map = new EnumMap<>(BaseDimension.class);
+      for (BaseDimension d : BASES) {
+        int n = get(numerators, d.ordinal());
+        if (n != 0) {
+          map.put(d, n);
+        }
       }
+      map = Collections.unmodifiableMap(map);
+      base = map;
     }
-    return new ProductDimension(map);
+    return map;
+  }
+
+  @Override
+  public Dimension multiply(Dimension dimension) {
+    return combine(of(dimension), 1);
+  }
+
+  @Override
+  public Dimension divide(Dimension dimension) {
+    return combine(of(dimension), -1);
   }
 
   @Override
   public Dimension pow(int n) {
-    Map<BaseDimension, Integer> map = new EnumMap<>(BaseDimension.class);
-    for (BaseDimension d : BaseDimension.values()) {
-      Integer i = data.get(d);
-      if (i != null) {
-        map.put(d, i * n);
-      }
+    long nums = 0;
+    long dens = 0;
+    for (int i = 0; i < BASES.length; i++) {
+      long num = (long) get(numerators, i) * n;
+      int den = getDenominator(denominators, i);
+      long gcd = gcd(Math.abs(num), den);
+      nums = with(nums, i, numerator(num / gcd));
+      dens = with(dens, i, denominator(den / gcd));
     }
-    return new ProductDimension(map);
+    return of(nums, dens);
   }
 
   @Override
   public Dimension root(int n) {
-    Map<BaseDimension, Integer> map = new EnumMap<>(BaseDimension.class);
-    for (BaseDimension d : BaseDimension.values()) {
-      Integer i = data.get(d);
-      if (i != null) {
-        if (i % n != 0) {
-          throw new ArithmeticException("Unsupported operation");
-        }
-        map.put(d, i / n);
-      }
+    if (n == 0) {
+      throw new ArithmeticException("Root's order of zero");
     }
-    return new ProductDimension(map);
+    long nums = 0;
+    long dens = 0;
+    for (int i = 0; i < BASES.length; i++) {
+      long num = n < 0 ? -get(numerators, i) : get(numerators, i);
+      long den = (long) getDenominator(denominators, i) * Math.abs(n);
+      long gcd = gcd(Math.abs(num), den);
+      nums = with(nums, i, numerator(num / gcd));
+      dens = with(dens, i, denominator(den / gcd));
+    }
+    return of(nums, dens);
   }
 
   @Override
   public int hashCode() {
-    final int prime = 31;
-    return prime + data.hashCode();
+    return hash(numerators, denominators);
   }
 
   @Override
@@ -100,18 +165,88 @@ class ProductDimension implements Dimension {
     if (this == obj) {
       return true;
     }
-    if (obj == null) {
-      return false;
+    if (obj instanceof ProductDimension) {
+      ProductDimension other = (ProductDimension) obj;
+      return numerators == other.numerators && denominators == other.denominators;
     }
-    if (!(obj instanceof Dimension)) {
-      return false;
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < BASES.length; i++) {
+      int n = get(numerators, i);
+      if (n == 0) {
+        continue;
+      }
+      if (builder.length() > 0) {
+        builder.append('*');
+      }
+      builder.append(BASES[i]).append('^').append(n);
+      int d = getDenominator(denominators, i);
+      if (d != 1) {
+        builder.append('/').append(d);
+      }
     }
-    Dimension other = (Dimension) obj;
-    for (BaseDimension d : BaseDimension.values()) {
-      if (!Objects.equals(data.get(d), other.getBaseDimensions().get(d))) {
-        return false;
+    return builder.length() == 0 ? "1" : builder.toString();
+  }
+
+  private Dimension combine(ProductDimension that, int sign) {
+    if (denominators == ONES && that.denominators == ONES) {
+      long nums = 0;
+      for (int i = 0; i < BASES.length; i++) {
+        nums = with(nums, i, numerator(get(numerators, i) + sign * get(that.numerators, i)));
       }
+      return of(nums, ONES);
+    }
+    long nums = 0;
+    long dens = 0;
+    for (int i = 0; i < BASES.length; i++) {
+      int d1 = getDenominator(denominators, i);
+      int d2 = getDenominator(that.denominators, i);
+      long num = (long) get(numerators, i) * d2 + (long) sign * get(that.numerators, i) * d1;
+      long den = (long) d1 * d2;
+      long gcd = gcd(Math.abs(num), den);
+      nums = with(nums, i, numerator(num / gcd));
+      dens = with(dens, i, denominator(den / gcd));
+    }
+    return of(nums, dens);
+  }
+
+  private static int get(long packed, int index) {
+    return (byte) (packed >>> index * BITS);
+  }
+
+  private static int getDenominator(long packed, int index) {
+    return (int) (packed >>> index * BITS) & MASK;
+  }
+
+  private static long with(long packed, int index, int value) {
+    int shift = index * BITS;
+    return packed & ~((long) MASK << shift) | (long) (value & MASK) << shift;
+  }
+
+  private static int numerator(long value) {
+    if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+      throw new ArithmeticException("Dimension exponent is out of range: " + value);
     }
-    return true;
+    return (int) value;
+  }
+
+  private static int denominator(long value) {
+    if (value < 1 || value > MASK) {
+      throw new ArithmeticException("Dimension exponent is out of range: 1/" + value);
+    }
+    return (int) value;
+  }
+
+  private static long gcd(long m, long n) {
+    return n == 0 ? m : gcd(n, m % n);
+  }
+
+  private static int hash(long numerators, long denominators) {
+    long h = numerators * 31 + denominators;
+    return (int) (h ^ h >>> 32);
   }
 }
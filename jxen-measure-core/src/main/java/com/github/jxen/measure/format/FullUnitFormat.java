@@ -3,13 +3,13 @@ package com.github.jxen.measure.format;
 import com.github.jxen.measure.format.UnitNameHelper.Formatter;
 import com.github.jxen.measure.format.UnitNameHelper.FullFormatter;
 import com.github.jxen.measure.spi.LocaleService;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.ResourceBundle;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 /**
@@ -20,7 +20,7 @@ import java.util.stream.Stream;
  */
 public class FullUnitFormat extends MeasureUnitFormat {
 
-  private static final Map<Locale, LocaleAdapter> ADAPTERS = new HashMap<>();
+  private static final Map<Locale, LocaleAdapter> ADAPTERS = new ConcurrentHashMap<>();
 
   static {
     ADAPTERS.put(Locale.ROOT, DEFAULT_ADAPTER);
@@ -31,14 +31,27 @@ public class FullUnitFormat extends MeasureUnitFormat {
 
   @Override
   protected Formatter getFormatter(List<ResourceBundle> bundles) {
-    LocaleAdapter adapter = ADAPTERS.get(Locale.getDefault());
+    return getFormatter(bundles, Locale.getDefault());
+  }
+
+  @Override
+  protected Formatter getFormatter(List<ResourceBundle> bundles, Locale locale) {
+    return new FullFormatter(getAdapter(locale), bundles);
+  }
+
+  // Adapter of the nearest locale provided by LocaleService is resolved once and remembered for the locale.
+  private static LocaleAdapter getAdapter(Locale locale) {
+    LocaleAdapter adapter = ADAPTERS.get(locale);
     if (Objects.isNull(adapter)) {
-      adapter = stream(Locale.getDefault())
+      adapter = stream(locale)
           .filter(ADAPTERS::containsKey)
           .map(ADAPTERS::get).findFirst().orElse(DEFAULT_ADAPTER);
-      ADAPTERS.put(Locale.getDefault(), adapter);
+      LocaleAdapter previous = ADAPTERS.putIfAbsent(locale, adapter);
+      if (previous != null) {
+        adapter = previous;
+      }
     }
-    return new FullFormatter(adapter, bundles);
+    return adapter;
   }
 
   private static Stream<Locale> stream(Locale locale) {
@@ -31,4 +31,17 @@ public interface LocaleAdapter {
   default String suffix(String suffix, String name, Number number) {
     return suffix;
   }
+
+  /**
+   * Provides plural form of numeric value.
+   * Results of {@link #name(String, Number)} and {@link #suffix(String, String, Number)} must depend on the number
+   * only through its plural form, so unit representation is evaluated once per form.
+   * Negative result means that there are no such forms, and representation is evaluated for every number.
+   *
+   * @param number numeric value
+   * @return plural form
+   */
+  default int pluralForm(Number number) {
+    return -1;
+  }
 }
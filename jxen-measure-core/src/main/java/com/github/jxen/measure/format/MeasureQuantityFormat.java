@@ -1,14 +1,19 @@
 package com.github.jxen.measure.format;
 
 import com.github.jxen.math.format.CompactFormat;
+import com.github.jxen.measure.quantity.impl.Quantities;
 import com.github.jxen.measure.unit.AbstractUnit;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.text.NumberFormat;
 import java.text.ParsePosition;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 import javax.measure.MeasurementException;
 import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
 import javax.measure.format.QuantityFormat;
 
 /**
@@ -20,8 +25,6 @@ import javax.measure.format.QuantityFormat;
  */
 public class MeasureQuantityFormat implements QuantityFormat {
 
-  private static final String ERROR_NOT_IMPLEMENTED = "Not implemented yet";
-
   private static final char DELIMITER = '\u202F';
   private static final int DIGITS = 4;
 
@@ -45,7 +48,7 @@ public class MeasureQuantityFormat implements QuantityFormat {
    * @param numberFormat number format
    */
   public MeasureQuantityFormat(NumberFormat numberFormat) {
-    this(numberFormat, new MeasureUnitFormat());
+    this(numberFormat, MeasureUnitFormat.getInstance());
   }
 
   /**
@@ -61,17 +64,34 @@ public class MeasureQuantityFormat implements QuantityFormat {
    * Default formatter.
    */
   public MeasureQuantityFormat() {
-    this(new CompactFormat(DIGITS), new MeasureUnitFormat());
+    this(new CompactFormat(DIGITS), MeasureUnitFormat.getInstance());
   }
 
   @Override
   public Appendable format(Quantity<?> quantity, Appendable appendable) {
+    return format(quantity, Locale.getDefault(), appendable);
+  }
+
+  @Override
+  public String format(Quantity<?> quantity) {
+    return format(quantity, new StringBuilder()).toString();
+  }
+
+  /**
+   * Formats given quantity with unit representation for given locale.
+   *
+   * @param quantity   quantity
+   * @param locale     locale of unit representation
+   * @param appendable appendable
+   * @return appendable with formatted string
+   */
+  public Appendable format(Quantity<?> quantity, Locale locale, Appendable appendable) {
     try {
       appendable.append(numberFormat.format(quantity.getValue()));
       String unit = quantity.getUnit() instanceof AbstractUnit
-          ? unitFormat.format(quantity.getValue(), (AbstractUnit<?>) quantity.getUnit())
-          : unitFormat.format(quantity.getUnit());
-      if (!unit.matches("[^\\p{L}]")) {
+          ? unitFormat.format(quantity.getValue(), (AbstractUnit<?>) quantity.getUnit(), locale)
+          : unitFormat.format(quantity.getUnit(), locale);
+      if (unit.codePointCount(0, unit.length()) != 1 || Character.isLetter(unit.codePointAt(0))) {
         appendable.append(DELIMITER);
       }
       appendable.append(unit);
@@ -82,9 +102,15 @@ public class MeasureQuantityFormat implements QuantityFormat {
     }
   }
 
-  @Override
-  public String format(Quantity<?> quantity) {
-    return format(quantity, new StringBuilder()).toString();
+  /**
+   * Formats given quantity with unit representation for given locale.
+   *
+   * @param quantity quantity
+   * @param locale   locale of unit representation
+   * @return formatted string
+   */
+  public String format(Quantity<?> quantity, Locale locale) {
+    return format(quantity, locale, new StringBuilder()).toString();
   }
 
   /**
@@ -114,13 +140,108 @@ public class MeasureQuantityFormat implements QuantityFormat {
     return format(quantities, new StringBuilder()).toString();
   }
 
+  /**
+   * Parses quantity starting at given position, value is kept as primitive {@code double}.
+   * Number is read directly from characters in plain decimal notation, regardless of number format. Digits of
+   * integer part can be grouped by three with spaces, e.g. {@code 3 400 mm}. Unit follows the number after optional
+   * space and is parsed by unit format.
+   *
+   * @param csq characters
+   * @param pos position, it is moved to the end of quantity
+   * @return quantity
+   * @throws MeasurementParseException if quantity cannot be parsed
+   */
   @Override
   public Quantity<?> parse(CharSequence csq, ParsePosition pos) {
-    throw new UnsupportedOperationException(ERROR_NOT_IMPLEMENTED);
+    int start = pos.getIndex();
+    try {
+      double value = NumberParser.parseDouble(csq, pos);
+      return Quantities.ofDouble(value, parseUnit(csq, pos));
+    } catch (MeasurementParseException e) {
+      pos.setIndex(start);
+      throw e;
+    }
   }
 
   @Override
   public Quantity<?> parse(CharSequence csq) {
-    throw new UnsupportedOperationException(ERROR_NOT_IMPLEMENTED);
+    ParsePosition pos = new ParsePosition(0);
+    Quantity<?> quantity = parse(csq, pos);
+    checkEnd(csq, pos);
+    return quantity;
+  }
+
+  /**
+   * Parses quantity starting at given position, value is kept as {@link BigDecimal} with all given digits.
+   * Syntax is described by {@link #parse(CharSequence, ParsePosition)}.
+   *
+   * @param csq characters
+   * @param pos position, it is moved to the end of quantity
+   * @return quantity
+   * @throws MeasurementParseException if quantity cannot be parsed
+   */
+  public final Quantity<?> parseDecimal(CharSequence csq, ParsePosition pos) {
+    int start = pos.getIndex();
+    try {
+      BigDecimal value = NumberParser.parseDecimal(csq, pos);
+      return Quantities.of(value, parseUnit(csq, pos));
+    } catch (MeasurementParseException e) {
+      pos.setIndex(start);
+      throw e;
+    }
+  }
+
+  /**
+   * Parses quantity starting at given position and passes its value and unit to consumer, no quantity is created.
+   * Syntax is described by {@link #parse(CharSequence, ParsePosition)}.
+   *
+   * @param csq      characters
+   * @param pos      position, it is moved to the end of quantity
+   * @param consumer consumer of value and unit
+   * @throws MeasurementParseException if quantity cannot be parsed
+   */
+  public final void parse(CharSequence csq, ParsePosition pos, ValueConsumer consumer) {
+    int start = pos.getIndex();
+    double value;
+    Unit<?> unit;
+    try {
+      value = NumberParser.parseDouble(csq, pos);
+      unit = parseUnit(csq, pos);
+    } catch (MeasurementParseException e) {
+      pos.setIndex(start);
+      throw e;
+    }
+    consumer.accept(value, unit);
+  }
+
+  private Unit<?> parseUnit(CharSequence csq, ParsePosition pos) {
+    int index = pos.getIndex();
+    while (index < csq.length() && UnitParser.isSpace(csq.charAt(index))) {
+      index++;
+    }
+    pos.setIndex(index);
+    return unitFormat.parse(csq, pos);
+  }
+
+  private static void checkEnd(CharSequence csq, ParsePosition pos) {
+    if (pos.getIndex() < csq.length()) {
+      throw new MeasurementParseException("Unexpected text after quantity", csq, pos.getIndex());
+    }
+  }
+
+  /**
+   * {@code ValueConsumer} interface accepts parsed values without creation of quantities.
+   */
+  @FunctionalInterface
+  public interface ValueConsumer {
+
+    /**
+     * Accepts parsed value. Unit instances are cached by unit format, so the same text gives the same instance
+     * and units can be compared by identity.
+     *
+     * @param value value
+     * @param unit  unit
+     */
+    void accept(double value, Unit<?> unit);
   }
 }
@@ -7,10 +7,14 @@ import java.io.IOException;
 import java.text.ParsePosition;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.measure.MeasurementException;
 import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
 import javax.measure.format.UnitFormat;
 
 /**
@@ -27,12 +31,19 @@ public class MeasureUnitFormat implements UnitFormat {
    * Default locale adaptor.
    */
   protected static final LocaleAdapter DEFAULT_ADAPTER = new LocaleAdapter() {
+
+    @Override
+    public int pluralForm(Number number) {
+      return 0;
+    }
   };
 
-  private static final String ERROR_NOT_IMPLEMENTED = "Not implemented yet";
   private static final String ERROR_NO_NAME = "Unit must have name";
 
-  private final List<ResourceBundle> bundles = new ArrayList<>();
+  private static final MeasureUnitFormat INSTANCE = new MeasureUnitFormat();
+
+  private final List<String> bundleNames = new ArrayList<>();
+  private final Map<Locale, Resources> resources = new ConcurrentHashMap<>();
 
   /**
    * Initializes resource bundles for unit names.
@@ -40,18 +51,44 @@ public class MeasureUnitFormat implements UnitFormat {
   public MeasureUnitFormat() {
     Class<?> type = getClass();
     while (type != Object.class) {
-      String name = type.getName() + "_unit";
-      bundles.add(ResourceBundle.getBundle(name));
+      bundleNames.add(type.getName() + "_unit");
       type = type.getSuperclass();
     }
+    getResources(Locale.getDefault());
+  }
+
+  /**
+   * Provides shared instance. Unit formats are immutable and thread-safe, so the instance can be used by everyone.
+   *
+   * @return unit format
+   */
+  public static MeasureUnitFormat getInstance() {
+    return INSTANCE;
   }
 
   @Override
   public Appendable format(Unit<?> unit, Appendable appendable) {
+    return format(unit, Locale.getDefault(), appendable);
+  }
+
+  @Override
+  public String format(Unit<?> unit) {
+    return format(unit, Locale.getDefault());
+  }
+
+  /**
+   * Formats unit for given locale.
+   *
+   * @param unit       unit
+   * @param locale     locale
+   * @param appendable appendable
+   * @return appendable
+   */
+  public Appendable format(Unit<?> unit, Locale locale, Appendable appendable) {
     Objects.requireNonNull(unit.getName(), ERROR_NO_NAME);
     try {
       if (unit instanceof AbstractUnit) {
-        return format(1, (AbstractUnit<?>) unit, appendable);
+        return format(1, (AbstractUnit<?>) unit, locale, appendable);
       }
       return appendable.append(unit.getSymbol());
     } catch (IOException e) {
@@ -59,9 +96,19 @@ public class MeasureUnitFormat implements UnitFormat {
     }
   }
 
-  @Override
-  public String format(Unit<?> unit) {
-    return format(unit, new StringBuilder()).toString();
+  /**
+   * Formats unit for given locale. Representations are kept per locale, so repeated calls do not evaluate them.
+   *
+   * @param unit   unit
+   * @param locale locale
+   * @return string representation
+   */
+  public String format(Unit<?> unit, Locale locale) {
+    Objects.requireNonNull(unit.getName(), ERROR_NO_NAME);
+    if (unit instanceof AbstractUnit) {
+      return getResources(locale).getFormatter().format(1, unit.getName());
+    }
+    return unit.getSymbol();
   }
 
   /**
@@ -73,12 +120,7 @@ public class MeasureUnitFormat implements UnitFormat {
    * @return appendable
    */
   protected final Appendable format(Number value, AbstractUnit<?> unit, Appendable appendable) {
-    Objects.requireNonNull(unit.getName(), ERROR_NO_NAME);
-    try {
-      return appendable.append(getString(value, unit));
-    } catch (IOException e) {
-      throw new MeasurementException(e);
-    }
+    return format(value, unit, Locale.getDefault(), appendable);
   }
 
   /**
@@ -92,6 +134,36 @@ public class MeasureUnitFormat implements UnitFormat {
     return format(value, unit, new StringBuilder()).toString();
   }
 
+  /**
+   * Formats value and unit for given locale.
+   *
+   * @param value      value
+   * @param unit       unit
+   * @param locale     locale
+   * @param appendable appendable
+   * @return appendable
+   */
+  protected final Appendable format(Number value, AbstractUnit<?> unit, Locale locale, Appendable appendable) {
+    Objects.requireNonNull(unit.getName(), ERROR_NO_NAME);
+    try {
+      return appendable.append(getResources(locale).getFormatter().format(value, unit.getName()));
+    } catch (IOException e) {
+      throw new MeasurementException(e);
+    }
+  }
+
+  /**
+   * Formats value and unit for given locale.
+   *
+   * @param value  value
+   * @param unit   unit
+   * @param locale locale
+   * @return string representation
+   */
+  protected final String format(Number value, AbstractUnit<?> unit, Locale locale) {
+    return format(value, unit, locale, new StringBuilder()).toString();
+  }
+
   @Override
   public void label(Unit<?> unit, String label) {
     throw new UnsupportedOperationException();
@@ -102,14 +174,46 @@ public class MeasureUnitFormat implements UnitFormat {
     return true;
   }
 
+  /**
+   * Parses unit expression starting at given position and ending before the first space or at the end of text.
+   * Expression consists of unit symbols, optionally prefixed, joined by multiplication ({@code *}, middle dot) and
+   * division ({@code /}, fraction slash) signs, each symbol can have exponent either as {@code ^n} or superscript.
+   * Everything after the first division sign belongs to denominator.
+   * Symbols of default locale are accepted as well as symbols of root locale.
+   *
+   * @param csq characters
+   * @param pos position, it is moved to the end of expression
+   * @return unit
+   * @throws MeasurementParseException if expression cannot be parsed
+   */
   @Override
   public Unit<?> parse(CharSequence csq, ParsePosition pos) {
-    throw new UnsupportedOperationException(ERROR_NOT_IMPLEMENTED);
+    int start = pos.getIndex();
+    int end = start;
+    while (end < csq.length() && !UnitParser.isSpace(csq.charAt(end))) {
+      end++;
+    }
+    try {
+      Unit<?> unit = getParser().parse(csq, start, end);
+      pos.setIndex(end);
+      return unit;
+    } catch (MeasurementParseException e) {
+      pos.setErrorIndex(e.getPosition());
+      throw e;
+    }
   }
 
+  /**
+   * Parses unit expression occupying whole text. Expression syntax is described by
+   * {@link #parse(CharSequence, ParsePosition)}.
+   *
+   * @param csq characters
+   * @return unit
+   * @throws MeasurementParseException if expression cannot be parsed
+   */
   @Override
   public Unit<?> parse(CharSequence csq) {
-    throw new UnsupportedOperationException(ERROR_NOT_IMPLEMENTED);
+    return getParser().parse(csq, 0, csq.length());
   }
 
   /**
@@ -123,7 +227,72 @@ public class MeasureUnitFormat implements UnitFormat {
     return new DefaultFormatter(DEFAULT_ADAPTER, bundles);
   }
 
-  private String getString(Number value, AbstractUnit<?> unit) {
-    return getFormatter(bundles).format(value, unit.getName());
+  /**
+   * Provides formatter used for unit representation in given locale.
+   * The method is called once per locale, the formatter keeps compiled unit representations.
+   * By default the locale is not taken into account.
+   *
+   * @param bundles bundles of the locale
+   * @param locale  locale
+   * @return formatter
+   */
+  protected Formatter getFormatter(List<ResourceBundle> bundles, Locale locale) {
+    return getFormatter(bundles);
+  }
+
+  private UnitParser getParser() {
+    return getResources(Locale.getDefault()).getParser();
+  }
+
+  private Resources getResources(Locale locale) {
+    Resources result = resources.get(locale);
+    if (result == null) {
+      List<ResourceBundle> bundles = new ArrayList<>();
+      for (String name : bundleNames) {
+        bundles.add(ResourceBundle.getBundle(name, locale));
+      }
+      result = new Resources(locale, bundles);
+      Resources previous = resources.putIfAbsent(locale, result);
+      if (previous != null) {
+        result = previous;
+      }
+    }
+    return result;
+  }
+
+  private final class Resources {
+
+    private final Locale locale;
+    private final List<ResourceBundle> bundles;
+    private volatile Formatter formatter;
+    private volatile UnitParser parser;
+
+    private Resources(Locale locale, List<ResourceBundle> bundles) {
+      this.locale = locale;
+      this.bundles = bundles;
+    }
+
+    Formatter getFormatter() {
+      Formatter result = formatter;
+      if (result == null) {
+        result = MeasureUnitFormat.this.getFormatter(bundles, locale);
+        formatter = result;
+      }
+      return result;
+    }
+
+    UnitParser getParser() {
+      UnitParser result = parser;
+      if (result == null) {
+        List<ResourceBundle> all = new ArrayList<>(bundles);
+        if (!Locale.ROOT.equals(locale)) {
+          // Symbols of root locale are accepted in any locale, localized symbols take precedence
+          all.addAll(getResources(Locale.ROOT).bundles);
+        }
+        result = UnitParser.of(all);
+        parser = result;
+      }
+      return result;
+    }
   }
 }
@@ -0,0 +1,260 @@
+package com.github.jxen.measure.format;
+
+import java.math.BigDecimal;
+import java.text.ParsePosition;
+import javax.measure.format.MeasurementParseException;
+
+/**
+ * {@code NumberParser} class parses decimal numbers directly from characters, without creation of strings.
+ * Number consists of optional sign, integer part, optional fraction part after point and optional exponent.
+ * Digits of integer part can be grouped by three with space, no-break space or narrow no-break space.
+ * Numbers of up to 18 significant digits and moderate exponent are converted exactly with single
+ * floating point operation, other numbers fall back to {@link Double#parseDouble(String)}.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+final class NumberParser {
+
+  private static final int MAX_DIGITS = 18;
+  private static final long MAX_EXACT = 1L << 53;
+  private static final int MAX_EXPONENT = 9999;
+
+  private static final double[] POWERS = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+      1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+  };
+
+  private NumberParser() {
+  }
+
+  /**
+   * Parses number as {@code double}.
+   *
+   * @param csq characters
+   * @param pos position, it is moved to the end of number
+   * @return number
+   * @throws MeasurementParseException if there is no number at given position
+   */
+  static double parseDouble(CharSequence csq, ParsePosition pos) {
+    int start = pos.getIndex();
+    int end = end(csq, start, pos);
+    Digits digits = new Digits(csq, start, end);
+    pos.setIndex(end);
+    double value = digits.doubleValue();
+    if (Double.isNaN(value)) {
+      value = Double.parseDouble(digits.toString());
+    }
+    return digits.negative ? -value : value;
+  }
+
+  /**
+   * Parses number as {@link BigDecimal} keeping all given digits and exact exponent.
+   *
+   * @param csq characters
+   * @param pos position, it is moved to the end of number
+   * @return number
+   * @throws MeasurementParseException if there is no number at given position or exponent is out of range
+   */
+  static BigDecimal parseDecimal(CharSequence csq, ParsePosition pos) {
+    int start = pos.getIndex();
+    int end = end(csq, start, pos);
+    Digits digits = new Digits(csq, start, end);
+    BigDecimal value;
+    if (digits.truncated || digits.clamped) {
+      try {
+        value = new BigDecimal(digits.toString());
+      } catch (NumberFormatException e) {
+        pos.setErrorIndex(start);
+        throw new MeasurementParseException("Exponent is out of range", csq, start);
+      }
+    } else {
+      value = BigDecimal.valueOf(digits.mantissa, -digits.exponent);
+    }
+    pos.setIndex(end);
+    return digits.negative ? value.negate() : value;
+  }
+
+  /**
+   * Checks if character separates groups of digits.
+   *
+   * @param c character
+   * @return {@code true} for space, no-break space and narrow no-break space
+   */
+  static boolean isGroupSeparator(char c) {
+    return c == ' ' || c == '\u00A0' || c == '\u202F';
+  }
+
+  private static int end(CharSequence csq, int start, ParsePosition pos) {
+    int length = csq.length();
+    int i = start;
+    if (i < length && (csq.charAt(i) == '-' || csq.charAt(i) == '+')) {
+      i++;
+    }
+    int digits = 0;
+    while (i < length && isDigit(csq.charAt(i))) {
+      i++;
+      digits++;
+      if (i < length && isGroupSeparator(csq.charAt(i)) && isGroup(csq, i + 1)) {
+        i++;
+      }
+    }
+    if (i < length && csq.charAt(i) == '.') {
+      int fraction = i + 1;
+      while (fraction < length && isDigit(csq.charAt(fraction))) {
+        fraction++;
+        digits++;
+      }
+      if (digits > 0) {
+        i = fraction;
+      }
+    }
+    if (digits == 0) {
+      pos.setErrorIndex(start);
+      throw new MeasurementParseException("Number expected", csq, start);
+    }
+    if (i < length && (csq.charAt(i) == 'e' || csq.charAt(i) == 'E')) {
+      int exponent = i + 1;
+      if (exponent < length && (csq.charAt(exponent) == '-' || csq.charAt(exponent) == '+')) {
+        exponent++;
+      }
+      if (exponent < length && isDigit(csq.charAt(exponent))) {
+        i = exponent;
+        while (i < length && isDigit(csq.charAt(i))) {
+          i++;
+        }
+      }
+    }
+    return i;
+  }
+
+  private static boolean isGroup(CharSequence csq, int start) {
+    int end = start + 3;
+    if (end > csq.length()) {
+      return false;
+    }
+    for (int i = start; i < end; i++) {
+      if (!isDigit(csq.charAt(i))) {
+        return false;
+      }
+    }
+    return end == csq.length() || !isDigit(csq.charAt(end));
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  /**
+   * {@code Digits} class keeps significant digits and decimal exponent of parsed number.
+   * It does not escape the parse methods, so the allocation is usually eliminated by JIT compiler.
+   */
+  private static final class Digits {
+
+    private final CharSequence csq;
+    private final int start;
+    private final int end;
+    private boolean negative;
+    private long mantissa;
+    private int exponent;
+    private boolean truncated;
+    private boolean clamped;
+
+    private Digits(CharSequence csq, int start, int end) {
+      this.csq = csq;
+      this.start = start;
+      this.end = end;
+      int count = 0;
+      boolean fraction = false;
+      int i = start;
+      char c = csq.charAt(i);
+      if (c == '-' || c == '+') {
+        negative = c == '-';
+        i++;
+      }
+      for (; i < end; i++) {
+        c = csq.charAt(i);
+        if (c == '.') {
+          fraction = true;
+        } else if (c == 'e' || c == 'E') {
+          break;
+        } else if (isDigit(c)) {
+          if (count < MAX_DIGITS) {
+            mantissa = mantissa * 10 + (c - '0');
+            if (mantissa > 0) {
+              count++;
+            }
+            if (fraction) {
+              exponent--;
+            }
+          } else {
+            truncated = true;
+            if (!fraction) {
+              exponent++;
+            }
+          }
+        }
+      }
+      if (i < end) {
+        exponent += exponent(i + 1);
+      }
+    }
+
+    private int exponent(int start) {
+      int i = start;
+      boolean minus = csq.charAt(i) == '-';
+      if (minus || csq.charAt(i) == '+') {
+        i++;
+      }
+      int value = 0;
+      for (; i < end; i++) {
+        value = value * 10 + (csq.charAt(i) - '0');
+        if (value > MAX_EXPONENT) {
+          // Such exponent is out of double range anyway, exact value is evaluated from the string
+          value = MAX_EXPONENT;
+          clamped = true;
+        }
+      }
+      return minus ? -value : value;
+    }
+
+    /**
+     * Provides exact value if it can be evaluated by single floating point operation.
+     *
+     * @return absolute value or {@link Double#NaN}
+     */
+    double doubleValue() {
+      if (truncated || mantissa > MAX_EXACT) {
+        return Double.NaN;
+      }
+      if (mantissa == 0) {
+        return 0.0;
+      }
+      if (exponent >= 0 && exponent < POWERS.length) {
+        return mantissa * POWERS[exponent];
+      }
+      if (exponent < 0 && -exponent < POWERS.length) {
+        return mantissa / POWERS[-exponent];
+      }
+      return Double.NaN;
+    }
+
+    /**
+     * Provides absolute value as string without group separators.
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder(end - start);
+      for (int i = start; i < end; i++) {
+        char c = csq.charAt(i);
+        if (!isGroupSeparator(c) && (i > start || isDigit(c) || c == '.')) {
+          builder.append(c);
+        }
+      }
+      return builder.toString();
+    }
+  }
+}
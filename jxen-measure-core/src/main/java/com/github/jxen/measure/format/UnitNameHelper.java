@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import javax.measure.MeasurementException;
 import javax.measure.Prefix;
 import javax.measure.Unit;
@@ -26,8 +27,6 @@ public final class UnitNameHelper {
   private static final char DIV = '/';
   private static final char POW = '^';
 
-  private static final String STAR_REGEX = "[*]";
-
   private UnitNameHelper() {
   }
 
@@ -126,10 +125,14 @@ public final class UnitNameHelper {
   }
 
   private static void parse(String value, List<Part> parts) {
-    String[] units = value.split(STAR_REGEX);
-    for (String unit : units) {
-      parts.add(Part.parse(unit));
+    int start = 0;
+    int end = value.indexOf(STAR);
+    while (end != -1) {
+      parts.add(Part.parse(value.substring(start, end)));
+      start = end + 1;
+      end = value.indexOf(STAR, start);
     }
+    parts.add(Part.parse(value.substring(start)));
   }
 
   abstract static class Formatter {
@@ -138,15 +141,39 @@ public final class UnitNameHelper {
     private static final String UNIT = "unit.";
     private static final String SUFFIX = "suffix.";
 
+    private static final int CACHE_SIZE = 1024;
+    private static final int FORMS = 4;
+
     private final LocaleAdapter adapter;
     private final List<ResourceBundle> bundles;
+    private final AtomicReferenceArray<Template> templates = new AtomicReferenceArray<>(CACHE_SIZE);
 
     Formatter(LocaleAdapter adapter, List<ResourceBundle> bundles) {
       this.adapter = adapter;
       this.bundles = bundles;
     }
 
-    abstract String format(Number value, String unit);
+    /**
+     * Provides representation of unit with given internal name for given value.
+     * Parsed names and their representations for each plural form are kept in bounded cache.
+     *
+     * @param value value
+     * @param unit  internal unit name
+     * @return unit representation
+     */
+    final String format(Number value, String unit) {
+      int hash = unit.hashCode();
+      int index = (hash ^ hash >>> 16) & CACHE_SIZE - 1;
+      Template template = templates.get(index);
+      if (template == null || !template.unit.equals(unit)) {
+        template = new Template(unit, parse(unit));
+        templates.set(index, template);
+      }
+      int form = adapter.pluralForm(value);
+      return form < 0 || form >= FORMS ? compile(value, template.name) : template.get(form, value);
+    }
+
+    abstract String compile(Number value, UnitName name);
 
     String format(Number value, Part part) {
       StringBuilder builder = new StringBuilder();
@@ -200,6 +227,28 @@ public final class UnitNameHelper {
       }
       return String.format("[%s]", key);
     }
+
+    private final class Template {
+
+      private final String unit;
+      private final UnitName name;
+      // Strings are immutable, so racy publication of evaluated forms is safe.
+      private final String[] forms = new String[FORMS];
+
+      private Template(String unit, UnitName name) {
+        this.unit = unit;
+        this.name = name;
+      }
+
+      String get(int form, Number value) {
+        String result = forms[form];
+        if (result == null) {
+          result = compile(value, name);
+          forms[form] = result;
+        }
+        return result;
+      }
+    }
   }
 
   static final class DefaultFormatter extends Formatter {
@@ -209,9 +258,8 @@ public final class UnitNameHelper {
     }
 
     @Override
-    String format(Number value, String unit) {
+    String compile(Number value, UnitName name) {
       StringBuilder builder = new StringBuilder();
-      UnitName name = parse(unit);
       final String bullet = "\u00B7"; // middle dot
       builder.append(name.numerator.stream().map(p -> format(value, p)).collect(joining(bullet)));
       if (!name.denominator.isEmpty()) {
@@ -229,8 +277,7 @@ public final class UnitNameHelper {
     }
 
     @Override
-    String format(Number value, String unit) {
-      UnitName name = parse(unit);
+    String compile(Number value, UnitName name) {
       if (name.denominator.size() > 1) {
         return "?/?";
       }
@@ -0,0 +1,338 @@
+package com.github.jxen.measure.format;
+
+import com.github.jxen.measure.unit.AbstractUnit;
+import com.github.jxen.measure.unit.MetricPrefix;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.measure.MeasurementException;
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+import javax.measure.spi.ServiceProvider;
+import javax.measure.spi.SystemOfUnits;
+
+/**
+ * {@code UnitParser} class parses unit expressions like {@code kg*m/s^2} or {@code km/h}.
+ * Symbols are taken from unit resource bundles and resolved against registered systems of units.
+ * Everything after the first division sign belongs to denominator, as it is formatted by {@link MeasureUnitFormat}.
+ * Parsed expressions are kept in bounded cache, lookup of cached expression does not allocate.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+final class UnitParser {
+
+  private static final int CACHE_SIZE = 1024;
+
+  private static final String UNIT = "unit.";
+  private static final String PREFIX = "prefix.";
+  private static final char SUPERSCRIPT_MINUS = '\u207B';
+
+  private static final Map<List<ResourceBundle>, UnitParser> PARSERS = new ConcurrentHashMap<>();
+
+  private final Map<String, AbstractUnit<?>> symbols = new HashMap<>();
+  private final String[] prefixSymbols;
+  private final MetricPrefix[] prefixes;
+  private final AtomicReferenceArray<Entry> cache = new AtomicReferenceArray<>(CACHE_SIZE);
+
+  private UnitParser(List<ResourceBundle> bundles) {
+    Map<String, AbstractUnit<?>> names = names();
+    Map<String, MetricPrefix> prefixSymbolMap = new HashMap<>();
+    for (ResourceBundle bundle : bundles) {
+      for (String key : new TreeSet<>(bundle.keySet())) {
+        if (key.startsWith(UNIT)) {
+          AbstractUnit<?> unit = names.get(key.substring(UNIT.length()));
+          if (unit != null) {
+            symbols.putIfAbsent(bundle.getString(key), unit);
+          }
+        } else if (key.startsWith(PREFIX)) {
+          MetricPrefix prefix = prefix(key.substring(PREFIX.length()));
+          if (prefix != null) {
+            prefixSymbolMap.putIfAbsent(bundle.getString(key), prefix);
+          }
+        }
+      }
+    }
+    names.forEach(symbols::putIfAbsent);
+    prefixSymbols = prefixSymbolMap.keySet().toArray(new String[0]);
+    // Longer prefixes go first, so "da" is not taken for "d".
+    Arrays.sort(prefixSymbols, Comparator.comparingInt(String::length).reversed().thenComparing(s -> s));
+    prefixes = new MetricPrefix[prefixSymbols.length];
+    for (int i = 0; i < prefixes.length; i++) {
+      prefixes[i] = prefixSymbolMap.get(prefixSymbols[i]);
+    }
+  }
+
+  /**
+   * Provides parser for given resource bundles.
+   *
+   * @param bundles resource bundles
+   * @return parser
+   */
+  static UnitParser of(List<ResourceBundle> bundles) {
+    List<ResourceBundle> key = List.copyOf(bundles);
+    UnitParser parser = PARSERS.get(key);
+    if (parser == null) {
+      parser = new UnitParser(bundles);
+      UnitParser previous = PARSERS.putIfAbsent(key, parser);
+      if (previous != null) {
+        parser = previous;
+      }
+    }
+    return parser;
+  }
+
+  /**
+   * Parses unit expression occupying given range of characters.
+   *
+   * @param csq   characters
+   * @param start start index, inclusive
+   * @param end   end index, exclusive
+   * @return unit
+   * @throws MeasurementParseException if expression cannot be parsed
+   */
+  AbstractUnit<?> parse(CharSequence csq, int start, int end) {
+    int hash = hash(csq, start, end);
+    int index = (hash ^ hash >>> 16) & CACHE_SIZE - 1;
+    Entry entry = cache.get(index);
+    if (entry != null && entry.matches(hash, csq, start, end)) {
+      return entry.unit;
+    }
+    AbstractUnit<?> unit = new Expression(csq, start, end).evaluate();
+    cache.set(index, new Entry(hash, csq.subSequence(start, end).toString(), unit));
+    return unit;
+  }
+
+  private static int hash(CharSequence csq, int start, int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + csq.charAt(i);
+    }
+    return hash;
+  }
+
+  private static Map<String, AbstractUnit<?>> names() {
+    Map<String, AbstractUnit<?>> names = new HashMap<>();
+    for (SystemOfUnits system : ServiceProvider.current().getSystemOfUnitsService().getAvailableSystemsOfUnits()) {
+      for (Unit<?> unit : system.getUnits()) {
+        if (unit instanceof AbstractUnit && unit.getName() != null) {
+          names.putIfAbsent(unit.getName(), (AbstractUnit<?>) unit);
+        }
+      }
+    }
+    return names;
+  }
+
+  private static MetricPrefix prefix(String name) {
+    for (MetricPrefix prefix : MetricPrefix.values()) {
+      if (prefix.getName().equals(name)) {
+        return prefix;
+      }
+    }
+    return null;
+  }
+
+  private AbstractUnit<?> resolve(String symbol) {
+    AbstractUnit<?> unit = symbols.get(symbol);
+    if (unit != null) {
+      return unit;
+    }
+    for (int i = 0; i < prefixSymbols.length; i++) {
+      String prefix = prefixSymbols[i];
+      if (symbol.length() > prefix.length() && symbol.startsWith(prefix)) {
+        AbstractUnit<?> base = symbols.get(symbol.substring(prefix.length()));
+        if (base != null) {
+          try {
+            return base.prefix(prefixes[i]);
+          } catch (MeasurementException e) {
+            // Unit cannot be prefixed, the next prefix is tried
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean isMultiply(char c) {
+    return c == '*' || c == '\u00B7' || c == '\u22C5'; // middle dot, dot operator
+  }
+
+  private static boolean isDivide(char c) {
+    return c == '/' || c == '\u2044'; // fraction slash
+  }
+
+  private static int superscript(char c) {
+    switch (c) {
+      case '\u2070':
+        return 0;
+      case '\u00B9':
+        return 1;
+      case '\u00B2':
+        return 2;
+      case '\u00B3':
+        return 3;
+      default:
+        return c >= '\u2074' && c <= '\u2079' ? c - '\u2070' : -1;
+    }
+  }
+
+  /**
+   * Checks if character ends unit expression.
+   *
+   * @param c character
+   * @return {@code true} for whitespace and space characters including no-break spaces
+   */
+  static boolean isSpace(char c) {
+    return Character.isWhitespace(c) || Character.isSpaceChar(c);
+  }
+
+  private static boolean isSymbol(char c) {
+    return !isSpace(c) && !isMultiply(c) && !isDivide(c) && c != '^' && c != SUPERSCRIPT_MINUS
+        && superscript(c) < 0 && (c < '0' || c > '9');
+  }
+
+  private final class Expression {
+
+    private final CharSequence csq;
+    private final int end;
+    private int index;
+
+    private Expression(CharSequence csq, int start, int end) {
+      this.csq = csq;
+      this.end = end;
+      index = start;
+    }
+
+    AbstractUnit<?> evaluate() {
+      AbstractUnit<?> result = null;
+      boolean denominator = false;
+      if (index + 1 < end && csq.charAt(index) == '1' && isDivide(csq.charAt(index + 1))) {
+        index += 2;
+        denominator = true;
+      }
+      while (true) {
+        AbstractUnit<?> factor = factor();
+        if (result == null) {
+          result = denominator ? factor.pow(-1) : factor;
+        } else {
+          result = denominator ? result.divide(factor) : result.multiply(factor);
+        }
+        if (index == end) {
+          return result;
+        }
+        char c = csq.charAt(index);
+        if (isDivide(c)) {
+          denominator = true;
+        } else if (!isMultiply(c)) {
+          throw error("Unexpected character '" + c + "'");
+        }
+        index++;
+      }
+    }
+
+    private AbstractUnit<?> factor() {
+      int start = index;
+      while (index < end && isSymbol(csq.charAt(index))) {
+        index++;
+      }
+      if (index == start) {
+        throw error("Unit symbol expected");
+      }
+      String symbol = csq.subSequence(start, index).toString();
+      AbstractUnit<?> unit = resolve(symbol);
+      if (unit == null) {
+        index = start;
+        throw error("Unknown unit symbol: " + symbol);
+      }
+      int exponent = exponent();
+      return exponent == 1 ? unit : unit.pow(exponent);
+    }
+
+    private int exponent() {
+      if (index == end) {
+        return 1;
+      }
+      if (csq.charAt(index) == '^') {
+        index++;
+        boolean negative = index < end && csq.charAt(index) == '-';
+        if (negative) {
+          index++;
+        }
+        int start = index;
+        int value = 0;
+        while (index < end && csq.charAt(index) >= '0' && csq.charAt(index) <= '9') {
+          value = digit(value, csq.charAt(index) - '0');
+        }
+        return checkExponent(start, negative ? -value : value);
+      }
+      boolean negative = csq.charAt(index) == SUPERSCRIPT_MINUS;
+      if (negative) {
+        index++;
+      }
+      int start = index;
+      int value = 0;
+      while (index < end && superscript(csq.charAt(index)) >= 0) {
+        value = digit(value, superscript(csq.charAt(index)));
+      }
+      if (index == start && !negative) {
+        return 1;
+      }
+      return checkExponent(start, negative ? -value : value);
+    }
+
+    private int digit(int value, int digit) {
+      if (value > (Integer.MAX_VALUE - digit) / 10) {
+        throw error("Exponent is too large");
+      }
+      index++;
+      return value * 10 + digit;
+    }
+
+    private int checkExponent(int start, int value) {
+      if (index == start) {
+        throw error("Exponent expected");
+      }
+      if (value == 0) {
+        index = start;
+        throw error("Exponent must not be zero");
+      }
+      return value;
+    }
+
+    private MeasurementParseException error(String message) {
+      return new MeasurementParseException(message, csq, index);
+    }
+  }
+
+  private static final class Entry {
+
+    private final int hash;
+    private final String key;
+    private final AbstractUnit<?> unit;
+
+    private Entry(int hash, String key, AbstractUnit<?> unit) {
+      this.hash = hash;
+      this.key = key;
+      this.unit = unit;
+    }
+
+    boolean matches(int hash, CharSequence csq, int start, int end) {
+      if (this.hash != hash || key.length() != end - start) {
+        return false;
+      }
+      for (int i = 0; i < key.length(); i++) {
+        if (key.charAt(i) != csq.charAt(start + i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -22,8 +22,8 @@ public abstract class AbstractQuantity<Q extends Quantity<Q>> implements Quantit
 
   private final Number value;
   private final AbstractUnit<Q> unit;
-  private final ArithmeticAware<?> adapter;
   private final Scale scale;
+  private volatile ArithmeticAware<?> adapter;
 
   /**
    * Initializes instance with value, unit and scale.
@@ -35,7 +35,6 @@ public abstract class AbstractQuantity<Q extends Quantity<Q>> implements Quantit
   protected AbstractQuantity(Number value, AbstractUnit<Q> unit, Scale scale) {
     this.value = value;
     this.unit = unit;
-    adapter = Adapters.lookup(value);
     this.scale = scale;
   }
 
@@ -51,32 +50,32 @@ public abstract class AbstractQuantity<Q extends Quantity<Q>> implements Quantit
 
   @Override
   public Q add(Quantity<Q> augend) {
-    return factory().apply(adapter.plus(augend.to(unit).getValue()), unit);
+    return factory().apply(adapter().plus(valueOf(augend)), unit);
   }
 
   @Override
   public Q subtract(Quantity<Q> subtrahend) {
-    return factory().apply(adapter.minus(subtrahend.to(unit).getValue()), unit);
+    return factory().apply(adapter().minus(valueOf(subtrahend)), unit);
   }
 
   @Override
   public Quantity<?> divide(Quantity<?> divisor) {
-    return new QuantityImpl<>(adapter.div(divisor.getValue()), unit.divide(divisor.getUnit()));
+    return new QuantityImpl<>(adapter().div(divisor.getValue()), unit.divide(divisor.getUnit()));
   }
 
   @Override
   public Q divide(Number divisor) {
-    return factory().apply(adapter.div(divisor), unit);
+    return factory().apply(adapter().div(divisor), unit);
   }
 
   @Override
   public Quantity<?> multiply(Quantity<?> multiplier) {
-    return new QuantityImpl<>(adapter.multiply(multiplier.getValue()), unit.multiply(multiplier.getUnit()));
+    return new QuantityImpl<>(adapter().multiply(multiplier.getValue()), unit.multiply(multiplier.getUnit()));
   }
 
   @Override
   public Q multiply(Number multiplier) {
-    return factory().apply(adapter.multiply(multiplier), unit);
+    return factory().apply(adapter().multiply(multiplier), unit);
   }
 
   @SuppressWarnings("unchecked")
@@ -93,19 +92,17 @@ public abstract class AbstractQuantity<Q extends Quantity<Q>> implements Quantit
 
   @Override
   public Quantity<?> inverse() {
-    return new QuantityImpl<>(adapter.reciprocal(), unit.inverse());
+    return new QuantityImpl<>(adapter().reciprocal(), unit.inverse());
   }
 
   @Override
   public Q negate() {
-    return factory().apply(adapter.negate(), unit);
+    return factory().apply(adapter().negate(), unit);
   }
 
-  @SuppressWarnings("unchecked")
   @Override
   public <T extends Quantity<T>> T asType(Class<T> type) {
-    // TODO Check dimension
-    return (T) this;
+    return QuantityRegistry.asType(this, type);
   }
 
   @Override
@@ -130,8 +127,7 @@ public abstract class AbstractQuantity<Q extends Quantity<Q>> implements Quantit
 
   @Override
   public int compareTo(Quantity<Q> o) {
-    Quantity<Q> other = unit.equals(o.getUnit()) ? o : o.to(unit);
-    return Double.compare(value.doubleValue(), other.getValue().doubleValue());
+    return Double.compare(value.doubleValue(), QuantityComparators.doubleValue(o, unit));
   }
 
   @Override
@@ -168,6 +164,24 @@ public abstract class AbstractQuantity<Q extends Quantity<Q>> implements Quantit
    */
   protected abstract BiFunction<Number, AbstractUnit<Q>, Q> factory();
 
+  // The adapter is looked up on first arithmetic operation, so results of operations do not create it.
+  private ArithmeticAware<?> adapter() {
+    ArithmeticAware<?> result = adapter;
+    if (result == null) {
+      result = Adapters.lookup(value);
+      adapter = result;
+    }
+    return result;
+  }
+
+  private Number valueOf(Quantity<Q> quantity) {
+    Unit<Q> u = quantity.getUnit();
+    if (u == unit || unit.equals(u)) {
+      return quantity.getValue();
+    }
+    return u.getConverterTo(unit).convert(quantity.getValue());
+  }
+
   private Number adjust(Unit<Q> unit) {
     UnitConverter converter = getUnit().getConverterTo(unit);
     return converter.convert(getValue());
@@ -24,6 +24,17 @@ public class AngleAmount extends AbstractQuantity<Angle> implements Angle {
     super(number, unit);
   }
 
+  /**
+   * Initializes instance with value, unit and scale.
+   *
+   * @param number value
+   * @param unit   unit
+   * @param scale  scale
+   */
+  public AngleAmount(Number number, AbstractUnit<Angle> unit, Scale scale) {
+    super(number, unit, scale);
+  }
+
   @Override
   protected BiFunction<Number, AbstractUnit<Angle>, Angle> factory() {
     return AngleAmount::new;
@@ -24,6 +24,17 @@ public class AreaAmount extends AbstractQuantity<Area> implements Area {
     super(number, unit);
   }
 
+  /**
+   * Initializes instance with value, unit and scale.
+   *
+   * @param number value
+   * @param unit   unit
+   * @param scale  scale
+   */
+  public AreaAmount(Number number, AbstractUnit<Area> unit, Scale scale) {
+    super(number, unit, scale);
+  }
+
   @Override
   protected BiFunction<Number, AbstractUnit<Area>, Area> factory() {
     return AreaAmount::new;
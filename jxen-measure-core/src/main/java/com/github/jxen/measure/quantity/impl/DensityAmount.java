@@ -24,6 +24,17 @@ public class DensityAmount extends AbstractQuantity<Density> implements Density
     super(number, unit);
   }
 
+  /**
+   * Initializes instance with value, unit and scale.
+   *
+   * @param number value
+   * @param unit   unit
+   * @param scale  scale
+   */
+  public DensityAmount(Number number, AbstractUnit<Density> unit, Scale scale) {
+    super(number, unit, scale);
+  }
+
   @Override
   protected BiFunction<Number, AbstractUnit<Density>, Density> factory() {
     return DensityAmount::new;
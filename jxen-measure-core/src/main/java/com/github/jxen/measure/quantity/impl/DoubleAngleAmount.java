@@ -0,0 +1,31 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.measure.unit.AbstractUnit;
+import javax.measure.Quantity;
+import javax.measure.quantity.Angle;
+
+/**
+ * {@code DoubleAngleAmount} class represents {@link Quantity} of type {@link Angle}
+ * with primitive {@code double} value.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+public class DoubleAngleAmount extends DoubleQuantity<Angle> implements Angle {
+
+  /**
+   * Initializes instance with value and unit.
+   *
+   * @param number value
+   * @param unit   unit
+   */
+  public DoubleAngleAmount(double number, AbstractUnit<Angle> unit) {
+    super(number, unit);
+  }
+
+  @Override
+  protected Factory<Angle> factory() {
+    return DoubleAngleAmount::new;
+  }
+}
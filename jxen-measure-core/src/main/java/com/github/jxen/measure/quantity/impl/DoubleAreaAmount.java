@@ -0,0 +1,31 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.measure.unit.AbstractUnit;
+import javax.measure.Quantity;
+import javax.measure.quantity.Area;
+
+/**
+ * {@code DoubleAreaAmount} class represents {@link Quantity} of type {@link Area}
+ * with primitive {@code double} value.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+public class DoubleAreaAmount extends DoubleQuantity<Area> implements Area {
+
+  /**
+   * Initializes instance with value and unit.
+   *
+   * @param number value
+   * @param unit   unit
+   */
+  public DoubleAreaAmount(double number, AbstractUnit<Area> unit) {
+    super(number, unit);
+  }
+
+  @Override
+  protected Factory<Area> factory() {
+    return DoubleAreaAmount::new;
+  }
+}
@@ -0,0 +1,31 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.measure.unit.AbstractUnit;
+import javax.measure.Quantity;
+import si.uom.quantity.Density;
+
+/**
+ * {@code DoubleDensityAmount} class represents {@link Quantity} of type {@link Density}
+ * with primitive {@code double} value.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+public class DoubleDensityAmount extends DoubleQuantity<Density> implements Density {
+
+  /**
+   * Initializes instance with value and unit.
+   *
+   * @param number value
+   * @param unit   unit
+   */
+  public DoubleDensityAmount(double number, AbstractUnit<Density> unit) {
+    super(number, unit);
+  }
+
+  @Override
+  protected Factory<Density> factory() {
+    return DoubleDensityAmount::new;
+  }
+}
@@ -0,0 +1,31 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.measure.unit.AbstractUnit;
+import javax.measure.Quantity;
+import javax.measure.quantity.Length;
+
+/**
+ * {@code DoubleLengthAmount} class represents {@link Quantity} of type {@link Length}
+ * with primitive {@code double} value.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+public class DoubleLengthAmount extends DoubleQuantity<Length> implements Length {
+
+  /**
+   * Initializes instance with value and unit.
+   *
+   * @param number value
+   * @param unit   unit
+   */
+  public DoubleLengthAmount(double number, AbstractUnit<Length> unit) {
+    super(number, unit);
+  }
+
+  @Override
+  protected Factory<Length> factory() {
+    return DoubleLengthAmount::new;
+  }
+}
@@ -0,0 +1,31 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.measure.unit.AbstractUnit;
+import javax.measure.Quantity;
+import javax.measure.quantity.Mass;
+
+/**
+ * {@code DoubleMassAmount} class represents {@link Quantity} of type {@link Mass}
+ * with primitive {@code double} value.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+public class DoubleMassAmount extends DoubleQuantity<Mass> implements Mass {
+
+  /**
+   * Initializes instance with value and unit.
+   *
+   * @param number value
+   * @param unit   unit
+   */
+  public DoubleMassAmount(double number, AbstractUnit<Mass> unit) {
+    super(number, unit);
+  }
+
+  @Override
+  protected Factory<Mass> factory() {
+    return DoubleMassAmount::new;
+  }
+}
@@ -0,0 +1,218 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.measure.unit.AbstractUnit;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+/**
+ * {@code DoubleQuantity} class represents {@link Quantity} implementation which keeps value as primitive
+ * {@code double}. Arithmetic and conversion are performed with primitive math, value is boxed only by
+ * {@link #getValue()}.
+ *
+ * @author Denis Murashev
+ *
+ * @param <Q> quantity type
+ *
+ * @since Measure 0.9
+ */
+public abstract class DoubleQuantity<Q extends Quantity<Q>> implements Quantity<Q>, Comparable<Quantity<Q>> {
+
+  private final double value;
+  private final AbstractUnit<Q> unit;
+  private final Scale scale;
+
+  /**
+   * Initializes instance with value, unit and scale.
+   *
+   * @param value value
+   * @param unit  unit
+   * @param scale scale
+   */
+  protected DoubleQuantity(double value, AbstractUnit<Q> unit, Scale scale) {
+    this.value = value;
+    this.unit = unit;
+    this.scale = scale;
+  }
+
+  /**
+   * Initializes instance with value and unit.
+   *
+   * @param value value
+   * @param unit  unit
+   */
+  protected DoubleQuantity(double value, AbstractUnit<Q> unit) {
+    this(value, unit, Scale.ABSOLUTE);
+  }
+
+  @Override
+  public Q add(Quantity<Q> augend) {
+    return factory().create(value + valueOf(augend), unit);
+  }
+
+  @Override
+  public Q subtract(Quantity<Q> subtrahend) {
+    return factory().create(value - valueOf(subtrahend), unit);
+  }
+
+  @Override
+  public Quantity<?> divide(Quantity<?> divisor) {
+    return new DoubleQuantityImpl<>(value / doubleValue(divisor), unit.divide(divisor.getUnit()));
+  }
+
+  @Override
+  public Q divide(Number divisor) {
+    return factory().create(value / divisor.doubleValue(), unit);
+  }
+
+  @Override
+  public Quantity<?> multiply(Quantity<?> multiplier) {
+    return new DoubleQuantityImpl<>(value * doubleValue(multiplier), unit.multiply(multiplier.getUnit()));
+  }
+
+  @Override
+  public Q multiply(Number multiplier) {
+    return factory().create(value * multiplier.doubleValue(), unit);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Q to(Unit<Q> unit) {
+    if (unit.equals(getUnit())) {
+      return (Q) this;
+    }
+    if (unit instanceof AbstractUnit) {
+      return factory().create(this.unit.getConverterTo(unit).convert(value), (AbstractUnit<Q>) unit);
+    }
+    throw new UnsupportedOperationException("Unit class is not supported: " + unit.getClass());
+  }
+
+  @Override
+  public Quantity<?> inverse() {
+    return new DoubleQuantityImpl<>(1 / value, unit.inverse());
+  }
+
+  @Override
+  public Q negate() {
+    return factory().create(-value, unit);
+  }
+
+  @Override
+  public <T extends Quantity<T>> T asType(Class<T> type) {
+    return QuantityRegistry.asType(this, type);
+  }
+
+  @Override
+  public Number getValue() {
+    return value;
+  }
+
+  /**
+   * Provides value without boxing.
+   *
+   * @return value
+   */
+  public double doubleValue() {
+    return value;
+  }
+
+  /**
+   * Provides value in given unit without boxing.
+   *
+   * @param unit unit
+   * @return value
+   */
+  public double doubleValue(Unit<Q> unit) {
+    if (unit.equals(this.unit)) {
+      return value;
+    }
+    return this.unit.getConverterTo(unit).convert(value);
+  }
+
+  @Override
+  public Unit<Q> getUnit() {
+    return unit;
+  }
+
+  @Override
+  public Scale getScale() {
+    return scale;
+  }
+
+  @Override
+  public boolean isEquivalentTo(Quantity<Q> quantity) {
+    return compareTo(quantity) == 0;
+  }
+
+  @Override
+  public int compareTo(Quantity<Q> o) {
+    return Double.compare(value, valueOf(o));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null) {
+      return false;
+    }
+    if (getClass() != o.getClass()) {
+      return false;
+    }
+    DoubleQuantity<?> quantity = (DoubleQuantity<?>) o;
+    return Double.compare(value, quantity.value) == 0
+        && unit.equals(quantity.unit)
+        && scale.equals(quantity.scale);
+  }
+
+  @Override
+  public int hashCode() {
+    return (31 * Double.hashCode(value) + unit.hashCode()) * 31 + scale.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return value + unit.toString();
+  }
+
+  /**
+   * Provides factory.
+   *
+   * @return quantity factory
+   */
+  protected abstract Factory<Q> factory();
+
+  private double valueOf(Quantity<Q> quantity) {
+    if (quantity instanceof DoubleQuantity) {
+      return ((DoubleQuantity<Q>) quantity).doubleValue(unit);
+    }
+    Unit<Q> u = quantity.getUnit();
+    double v = quantity.getValue().doubleValue();
+    return u == unit || unit.equals(u) ? v : u.getConverterTo(unit).convert(v);
+  }
+
+  private static double doubleValue(Quantity<?> quantity) {
+    if (quantity instanceof DoubleQuantity) {
+      return ((DoubleQuantity<?>) quantity).value;
+    }
+    return quantity.getValue().doubleValue();
+  }
+
+  /**
+   * {@code Factory} interface creates quantity of primitive value.
+   *
+   * @param <Q> quantity type
+   */
+  @FunctionalInterface
+  public interface Factory<Q extends Quantity<Q>> {
+
+    /**
+     * Creates quantity.
+     *
+     * @param value value
+     * @param unit  unit
+     * @return quantity
+     */
+    Q create(double value, AbstractUnit<Q> unit);
+  }
+}
@@ -0,0 +1,25 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.measure.unit.AbstractUnit;
+import javax.measure.Quantity;
+
+final class DoubleQuantityImpl<Q extends Quantity<Q>> extends DoubleQuantity<Q> {
+
+  DoubleQuantityImpl(double value, AbstractUnit<Q> unit, Scale scale) {
+    super(value, unit, scale);
+  }
+
+  DoubleQuantityImpl(double value, AbstractUnit<Q> unit) {
+    this(value, unit, Scale.ABSOLUTE);
+  }
+
+  @Override
+  protected Factory<Q> factory() {
+    return DoubleQuantityImpl::create;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <Q extends Quantity<Q>> Q create(double v, AbstractUnit<Q> u) {
+    return (Q) new DoubleQuantityImpl<>(v, u);
+  }
+}
@@ -0,0 +1,31 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.measure.unit.AbstractUnit;
+import javax.measure.Quantity;
+import javax.measure.quantity.Speed;
+
+/**
+ * {@code DoubleSpeedAmount} class represents {@link Quantity} of type {@link Speed}
+ * with primitive {@code double} value.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+public class DoubleSpeedAmount extends DoubleQuantity<Speed> implements Speed {
+
+  /**
+   * Initializes instance with value and unit.
+   *
+   * @param number value
+   * @param unit   unit
+   */
+  public DoubleSpeedAmount(double number, AbstractUnit<Speed> unit) {
+    super(number, unit);
+  }
+
+  @Override
+  protected Factory<Speed> factory() {
+    return DoubleSpeedAmount::new;
+  }
+}
@@ -24,6 +24,17 @@ public class LengthAmount extends AbstractQuantity<Length> implements Length {
     super(number, unit);
   }
 
+  /**
+   * Initializes instance with value, unit and scale.
+   *
+   * @param number value
+   * @param unit   unit
+   * @param scale  scale
+   */
+  public LengthAmount(Number number, AbstractUnit<Length> unit, Scale scale) {
+    super(number, unit, scale);
+  }
+
   @Override
   protected BiFunction<Number, AbstractUnit<Length>, Length> factory() {
     return LengthAmount::new;
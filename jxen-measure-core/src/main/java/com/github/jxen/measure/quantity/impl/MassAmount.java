@@ -24,6 +24,17 @@ public class MassAmount extends AbstractQuantity<Mass> implements Mass {
     super(number, unit);
   }
 
+  /**
+   * Initializes instance with value, unit and scale.
+   *
+   * @param number value
+   * @param unit   unit
+   * @param scale  scale
+   */
+  public MassAmount(Number number, AbstractUnit<Mass> unit, Scale scale) {
+    super(number, unit, scale);
+  }
+
   @Override
   protected BiFunction<Number, AbstractUnit<Mass>, Mass> factory() {
     return MassAmount::new;
@@ -3,12 +3,12 @@ package com.github.jxen.measure.quantity.impl;
 import com.github.jxen.math.rational.BigRational;
 import com.github.jxen.math.rational.Rational;
 import com.github.jxen.measure.unit.AbstractUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.measure.Quantity;
 import javax.measure.Quantity.Scale;
 import javax.measure.Unit;
 import javax.measure.spi.QuantityFactory;
-import javax.measure.spi.ServiceProvider;
-import javax.measure.spi.SystemOfUnits;
 
 /**
  * {@code Quantities} class is responsible for management of {@link Quantity} entinies.
@@ -19,38 +19,48 @@ import javax.measure.spi.SystemOfUnits;
  */
 public final class Quantities {
 
+  private static final Map<Class<?>, QuantityFactory<?>> FACTORIES = new ConcurrentHashMap<>();
+
   private Quantities() {
   }
 
   /**
-   * Provides factory.
+   * Provides factory. Factories are cached, quantities of registered types are created as their typed
+   * implementations.
    *
    * @param quantity quantity
    * @param <Q> quantity type
    * @return quantity factory
    */
+  @SuppressWarnings("unchecked")
   public static <Q extends Quantity<Q>> QuantityFactory<Q> getFactory(Class<Q> quantity) {
-    final SystemOfUnits systemOfUnits = ServiceProvider.current().getSystemOfUnitsService().getSystemOfUnits();
-    return new QuantityFactory<>() {
-      @Override
-      public Quantity<Q> create(Number value, Unit<Q> unit, Scale scale) {
-        throw new UnsupportedOperationException("Not implemented yet");
-      }
-
-      @Override
-      public Quantity<Q> create(Number value, Unit<Q> unit) {
-        return of(value, unit);
+    QuantityFactory<?> factory = FACTORIES.get(quantity);
+    if (factory == null) {
+      factory = new Factory<>(QuantityRegistry.lookup(quantity));
+      QuantityFactory<?> previous = FACTORIES.putIfAbsent(quantity, factory);
+      if (previous != null) {
+        factory = previous;
       }
+    }
+    return (QuantityFactory<Q>) factory;
+  }
 
-      @Override
-      public Unit<Q> getSystemUnit() {
-        return systemOfUnits.getUnit(quantity);
-      }
-    };
+  /**
+   * Checks that dimension of given unit matches dimension of quantity type, as it is known to the current system
+   * of units. Types without system unit are not checked.
+   *
+   * @param unit unit
+   * @param type quantity type
+   * @param <Q> quantity type
+   * @throws ClassCastException if dimension of unit does not match the type
+   */
+  public static <Q extends Quantity<Q>> void checkDimension(Unit<?> unit, Class<Q> type) {
+    QuantityRegistry.checkDimension(unit, type);
   }
 
   /**
-   * Creates quantity of given value and unit.
+   * Creates quantity of given value and unit. Quantity is created as typed implementation registered for dimension
+   * of the unit, for example {@link LengthAmount} for units of length.
    *
    * @param value value
    * @param unit  unit
@@ -59,7 +69,22 @@ public final class Quantities {
    */
   public static <Q extends Quantity<Q>> Quantity<Q> of(Number value, Unit<Q> unit) {
     if (unit instanceof AbstractUnit) {
-      return new QuantityImpl<>(value, (AbstractUnit<Q>) unit);
+      return QuantityRegistry.create(value, (AbstractUnit<Q>) unit, Scale.ABSOLUTE);
+    }
+    throw new UnsupportedOperationException("Unit class is not supported: " + unit.getClass());
+  }
+
+  /**
+   * Creates quantity of given primitive value and unit.
+   *
+   * @param value value
+   * @param unit  unit
+   * @param <Q> quantity type
+   * @return quantity
+   */
+  public static <Q extends Quantity<Q>> DoubleQuantity<Q> ofDouble(double value, Unit<Q> unit) {
+    if (unit instanceof AbstractUnit) {
+      return new DoubleQuantityImpl<>(value, (AbstractUnit<Q>) unit);
     }
     throw new UnsupportedOperationException("Unit class is not supported: " + unit.getClass());
   }
@@ -231,4 +256,33 @@ public final class Quantities {
   public static <Q extends Quantity<Q>> BigRational toBigRational(Quantity<Q> quantity) {
     return BigRational.valueOf(quantity.getValue());
   }
+
+  private static final class Factory<Q extends Quantity<Q>> implements QuantityFactory<Q> {
+
+    private final QuantityRegistry.Entry<Q> entry;
+    private final Unit<Q> systemUnit;
+
+    private Factory(QuantityRegistry.Entry<Q> entry) {
+      this.entry = entry;
+      systemUnit = entry.getSystemUnit();
+    }
+
+    @Override
+    public Quantity<Q> create(Number value, Unit<Q> unit, Scale scale) {
+      if (unit instanceof AbstractUnit) {
+        return entry.create(value, (AbstractUnit<Q>) unit, scale);
+      }
+      throw new UnsupportedOperationException("Unit class is not supported: " + unit.getClass());
+    }
+
+    @Override
+    public Quantity<Q> create(Number value, Unit<Q> unit) {
+      return create(value, unit, Scale.ABSOLUTE);
+    }
+
+    @Override
+    public Unit<Q> getSystemUnit() {
+      return systemUnit;
+    }
+  }
 }
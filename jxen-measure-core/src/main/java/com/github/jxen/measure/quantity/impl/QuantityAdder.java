@@ -0,0 +1,314 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.math.common.Adapters;
+import com.github.jxen.math.rational.BigRational;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+/**
+ * {@code QuantityAdder} class is thread-safe accumulator of quantities in fixed unit.
+ * Like {@link java.util.concurrent.atomic.LongAdder} it spreads updates over several cells to avoid contention:
+ * a thread that loses the race for a cell moves to another cell.
+ * Cells are spread over separate cache lines, so updates of neighbouring cells do not interfere.
+ * Each cell keeps exact {@code long} sum of integral values and sum of other values together with rounding errors
+ * of its additions, so totals of integral units such as bytes or cents stay exact.
+ * Integral values are added with single compare-and-set, other values are added under the lock of the cell, so sum,
+ * error and inexact flag of the cell are always updated and reset together.
+ *
+ * @author Denis Murashev
+ *
+ * @param <Q> quantity type
+ *
+ * @since Measure 0.9
+ */
+public final class QuantityAdder<Q extends Quantity<Q>> {
+
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+  // 16 longs are two cache lines, so adjacent line prefetch does not pull neighbouring cells.
+  private static final int STRIDE = 16;
+  private static final int EXACT = 0;
+  private static final int SUM = 1;
+  private static final int ERROR = 2;
+  private static final int INEXACT = 3;
+  private static final int LOCK = 4;
+
+  private static final ThreadLocal<Probe> PROBES = ThreadLocal.withInitial(Probe::new);
+
+  private final Unit<Q> unit;
+  private final AtomicLongArray cells;
+  private final int mask;
+  private volatile Scaling<Q> lastScaling;
+
+  /**
+   * Initializes adder with given target unit.
+   *
+   * @param unit target unit
+   */
+  public QuantityAdder(Unit<Q> unit) {
+    this.unit = unit;
+    int n = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1) << 1;
+    mask = n - 1;
+    // The first stride is padding before the first cell.
+    cells = new AtomicLongArray((n + 1) * STRIDE);
+  }
+
+  /**
+   * Provides target unit.
+   *
+   * @return unit
+   */
+  public Unit<Q> getUnit() {
+    return unit;
+  }
+
+  /**
+   * Adds quantity.
+   *
+   * @param quantity quantity
+   */
+  public void add(Quantity<Q> quantity) {
+    Scaling<Q> scaling = scaling(quantity.getUnit());
+    UnitConverter converter = scaling.converter;
+    Number value = quantity.getValue();
+    if (converter.isIdentity()) {
+      addNumber(value);
+      return;
+    }
+    if (scaling.multiplier != 0 && isLong(value)) {
+      long v = value.longValue();
+      long product = v * scaling.multiplier;
+      if (Math.multiplyHigh(v, scaling.multiplier) == product >> 63) {
+        add(product);
+        return;
+      }
+    }
+    if (isIntegral(value)) {
+      addNumber(converter.convert(BigRational.valueOf(value)));
+    } else {
+      add(converter.convert(value.doubleValue()));
+    }
+  }
+
+  /**
+   * Adds value expressed in target unit.
+   *
+   * @param value value
+   */
+  public void add(long value) {
+    Probe probe = PROBES.get();
+    int cell = cell(probe.value);
+    while (true) {
+      long current = cells.get(cell + EXACT);
+      long next = current + value;
+      if (((current ^ next) & (value ^ next)) < 0) {
+        add((double) value);
+        return;
+      }
+      if (cells.compareAndSet(cell + EXACT, current, next)) {
+        return;
+      }
+      cell = cell(probe.advance());
+    }
+  }
+
+  /**
+   * Adds value expressed in target unit.
+   *
+   * @param value value
+   */
+  public void add(double value) {
+    Probe probe = PROBES.get();
+    int cell = cell(probe.value);
+    while (!cells.compareAndSet(cell + LOCK, 0, 1)) {
+      cell = cell(probe.advance());
+    }
+    double sum = Double.longBitsToDouble(cells.get(cell + SUM));
+    double next = sum + value;
+    // Exact rounding error of the addition (TwoSum)
+    double v = next - sum;
+    double error = sum - (next - v) + (value - v);
+    cells.lazySet(cell + SUM, Double.doubleToRawLongBits(next));
+    if (error != 0) {
+      double total = Double.longBitsToDouble(cells.get(cell + ERROR)) + error;
+      cells.lazySet(cell + ERROR, Double.doubleToRawLongBits(total));
+    }
+    cells.lazySet(cell + INEXACT, 1);
+    cells.set(cell + LOCK, 0);
+  }
+
+  /**
+   * Provides current sum. The result is not an atomic snapshot if there are concurrent updates.
+   *
+   * @return sum, value is {@link Long} if all added values were integral
+   */
+  public Quantity<Q> sum() {
+    return Quantities.of(collect(false), unit);
+  }
+
+  /**
+   * Provides current sum and resets adder.
+   *
+   * @return sum, value is {@link Long} if all added values were integral
+   */
+  public Quantity<Q> sumThenReset() {
+    return Quantities.of(collect(true), unit);
+  }
+
+  /**
+   * Provides current sum without creation of quantity.
+   *
+   * @return sum
+   */
+  public double doubleValue() {
+    return collect(false).doubleValue();
+  }
+
+  /**
+   * Provides current sum of integral values without creation of quantity.
+   *
+   * @return sum
+   * @throws ArithmeticException if sum is not integral or does not fit into {@code long}
+   */
+  public long longValue() {
+    Number sum = collect(false);
+    if (sum instanceof Long) {
+      return sum.longValue();
+    }
+    double value = sum.doubleValue();
+    if (value != Math.rint(value) || value < Long.MIN_VALUE || value >= -(double) Long.MIN_VALUE) {
+      throw new ArithmeticException("Sum is not exact long value: " + value);
+    }
+    return (long) value;
+  }
+
+  /**
+   * Resets adder.
+   */
+  public void reset() {
+    collect(true);
+  }
+
+  @Override
+  public String toString() {
+    return collect(false) + unit.toString();
+  }
+
+  private Scaling<Q> scaling(Unit<Q> source) {
+    Scaling<Q> scaling = lastScaling;
+    if (scaling == null || scaling.source != source) {
+      scaling = new Scaling<>(source, source.getConverterTo(unit));
+      lastScaling = scaling;
+    }
+    return scaling;
+  }
+
+  private void addNumber(Number value) {
+    if (isLong(value)) {
+      add(value.longValue());
+      return;
+    }
+    if (isIntegral(value) && Adapters.lookup(value).isIntegral()
+        && BigRational.valueOf(value.longValue()).equals(BigRational.valueOf(value))) {
+      add(value.longValue());
+      return;
+    }
+    add(value.doubleValue());
+  }
+
+  private static boolean isLong(Number value) {
+    return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+  }
+
+  private static boolean isIntegral(Number value) {
+    return !(value instanceof Double || value instanceof Float);
+  }
+
+  private int cell(int probe) {
+    return ((probe & mask) + 1) * STRIDE;
+  }
+
+  private Number collect(boolean reset) {
+    long exact = 0;
+    KahanSum sum = new KahanSum();
+    boolean inexact = false;
+    for (int cell = STRIDE; cell < cells.length(); cell += STRIDE) {
+      while (!cells.compareAndSet(cell + LOCK, 0, 1)) {
+        Thread.onSpinWait();
+      }
+      inexact |= cells.get(cell + INEXACT) != 0;
+      sum.add(Double.longBitsToDouble(cells.get(cell + SUM)));
+      sum.add(Double.longBitsToDouble(cells.get(cell + ERROR)));
+      if (reset) {
+        cells.lazySet(cell + INEXACT, 0);
+        cells.lazySet(cell + SUM, 0);
+        cells.lazySet(cell + ERROR, 0);
+      }
+      cells.set(cell + LOCK, 0);
+      long value = reset ? cells.getAndSet(cell + EXACT, 0) : cells.get(cell + EXACT);
+      try {
+        exact = Math.addExact(exact, value);
+      } catch (ArithmeticException e) {
+        inexact = true;
+        sum.add(value);
+      }
+    }
+    if (!inexact) {
+      return exact;
+    }
+    return sum.sum - sum.compensation + exact;
+  }
+
+  private static final class KahanSum {
+
+    private double sum;
+    private double compensation;
+
+    void add(double value) {
+      double y = value - compensation;
+      double t = sum + y;
+      compensation = t - sum - y;
+      sum = t;
+    }
+  }
+
+  /**
+   * {@code Scaling} class keeps converter from source unit, and its integer factor if converter just multiplies
+   * values by integer.
+   */
+  private static final class Scaling<Q extends Quantity<Q>> {
+
+    private final Unit<Q> source;
+    private final UnitConverter converter;
+    private final long multiplier;
+
+    private Scaling(Unit<Q> source, UnitConverter converter) {
+      this.source = source;
+      this.converter = converter;
+      multiplier = converter.isLinear() ? toLong(converter.convert(BigRational.ONE)) : 0;
+    }
+
+    private static long toLong(Number factor) {
+      long value = factor.longValue();
+      return BigRational.valueOf(value).equals(BigRational.valueOf(factor)) ? value : 0;
+    }
+  }
+
+  /**
+   * {@code Probe} class selects cell of current thread, it moves to other cell after failed update.
+   */
+  private static final class Probe {
+
+    private int value = (int) (Thread.currentThread().getId() * GOLDEN_GAMMA >>> 32) | 1;
+
+    int advance() {
+      int p = value;
+      p ^= p << 13;
+      p ^= p >>> 17;
+      p ^= p << 5;
+      value = p;
+      return p;
+    }
+  }
+}
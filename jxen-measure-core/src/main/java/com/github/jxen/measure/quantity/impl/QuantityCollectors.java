@@ -0,0 +1,260 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.math.common.Adapters;
+import com.github.jxen.math.rational.BigRational;
+import com.github.jxen.math.rational.Rational;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collector;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+/**
+ * {@code QuantityCollectors} class provides {@link Collector} implementations for streams of quantities.
+ * Values are accumulated per source unit, each partial result is converted to target unit only once when
+ * collection is finished. Sums of exact values ({@link BigRational}, {@link Rational}, {@link BigDecimal}
+ * and integral types) are kept exact.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+public final class QuantityCollectors {
+
+  private static final BigRational ZERO = BigRational.valueOf(0);
+
+  private QuantityCollectors() {
+  }
+
+  /**
+   * Provides collector which evaluates sum of quantities.
+   *
+   * @param unit unit of result
+   * @param <Q> quantity type
+   * @return collector
+   */
+  public static <Q extends Quantity<Q>> Collector<Quantity<Q>, ?, Quantity<Q>> summing(Unit<Q> unit) {
+    return Collector.of(Accumulator<Q>::new, Accumulator::add, Accumulator::merge, a -> a.statistics(unit).getSum(),
+        Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * Provides collector which evaluates arithmetic mean of quantities.
+   * The result is zero if there are no elements.
+   *
+   * @param unit unit of result
+   * @param <Q> quantity type
+   * @return collector
+   */
+  public static <Q extends Quantity<Q>> Collector<Quantity<Q>, ?, Quantity<Q>> averaging(Unit<Q> unit) {
+    return Collector.of(Accumulator<Q>::new, Accumulator::add, Accumulator::merge,
+        a -> a.statistics(unit).getAverage(), Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * Provides collector which finds minimal quantity.
+   *
+   * @param unit unit of result
+   * @param <Q> quantity type
+   * @return collector
+   */
+  public static <Q extends Quantity<Q>> Collector<Quantity<Q>, ?, Optional<Quantity<Q>>> minimizing(Unit<Q> unit) {
+    return Collector.of(Accumulator<Q>::new, Accumulator::add, Accumulator::merge, a -> a.statistics(unit).getMin(),
+        Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * Provides collector which finds maximal quantity.
+   *
+   * @param unit unit of result
+   * @param <Q> quantity type
+   * @return collector
+   */
+  public static <Q extends Quantity<Q>> Collector<Quantity<Q>, ?, Optional<Quantity<Q>>> maximizing(Unit<Q> unit) {
+    return Collector.of(Accumulator<Q>::new, Accumulator::add, Accumulator::merge, a -> a.statistics(unit).getMax(),
+        Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * Provides collector which evaluates count, sum, average, minimum and maximum of quantities.
+   *
+   * @param unit unit of result
+   * @param <Q> quantity type
+   * @return collector
+   */
+  public static <Q extends Quantity<Q>> Collector<Quantity<Q>, ?, Statistics<Q>> summarizing(Unit<Q> unit) {
+    return Collector.of(Accumulator<Q>::new, Accumulator::add, Accumulator::merge, a -> a.statistics(unit),
+        Collector.Characteristics.UNORDERED);
+  }
+
+  private static boolean isExact(Number value) {
+    return value instanceof BigRational || value instanceof Rational || value instanceof BigDecimal
+        || value instanceof BigInteger || value instanceof Long || value instanceof Integer
+        || value instanceof Short || value instanceof Byte;
+  }
+
+  private static BigRational plus(BigRational a, Number b) {
+    return BigRational.valueOf(Adapters.lookup(a).plus(b));
+  }
+
+  /**
+   * {@code Statistics} class contains summary of collected quantities expressed in one unit.
+   *
+   * @param <Q> quantity type
+   */
+  public static final class Statistics<Q extends Quantity<Q>> {
+
+    private final Unit<Q> unit;
+    private final long count;
+    private final Number sum;
+    private final double min;
+    private final double max;
+
+    private Statistics(Unit<Q> unit, long count, Number sum, double min, double max) {
+      this.unit = unit;
+      this.count = count;
+      this.sum = sum;
+      this.min = min;
+      this.max = max;
+    }
+
+    /**
+     * Provides number of quantities.
+     *
+     * @return count
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * Provides sum of quantities.
+     *
+     * @return sum
+     */
+    public Quantity<Q> getSum() {
+      return Quantities.of(sum, unit);
+    }
+
+    /**
+     * Provides arithmetic mean of quantities, zero if there are no quantities.
+     *
+     * @return average
+     */
+    public Quantity<Q> getAverage() {
+      if (count == 0) {
+        return Quantities.of(sum, unit);
+      }
+      if (sum instanceof BigRational) {
+        return Quantities.of(BigRational.valueOf(Adapters.lookup(sum).div(count)), unit);
+      }
+      return Quantities.of(sum.doubleValue() / count, unit);
+    }
+
+    /**
+     * Provides minimal quantity.
+     *
+     * @return minimum, empty if there are no quantities
+     */
+    public Optional<Quantity<Q>> getMin() {
+      return count == 0 ? Optional.empty() : Optional.of(Quantities.of(min, unit));
+    }
+
+    /**
+     * Provides maximal quantity.
+     *
+     * @return maximum, empty if there are no quantities
+     */
+    public Optional<Quantity<Q>> getMax() {
+      return count == 0 ? Optional.empty() : Optional.of(Quantities.of(max, unit));
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s{count=%d, sum=%s%s, min=%s%s, max=%s%s}", getClass().getSimpleName(), count, sum, unit,
+          min, unit, max, unit);
+    }
+  }
+
+  private static final class Accumulator<Q extends Quantity<Q>> {
+
+    private final Map<Unit<Q>, Partial> partials = new HashMap<>();
+
+    void add(Quantity<Q> quantity) {
+      partials.computeIfAbsent(quantity.getUnit(), u -> new Partial()).add(quantity.getValue());
+    }
+
+    Accumulator<Q> merge(Accumulator<Q> that) {
+      that.partials.forEach((u, p) -> partials.merge(u, p, Partial::merge));
+      return this;
+    }
+
+    Statistics<Q> statistics(Unit<Q> unit) {
+      long count = 0;
+      double sum = 0;
+      BigRational exact = ZERO;
+      double min = Double.POSITIVE_INFINITY;
+      double max = Double.NEGATIVE_INFINITY;
+      for (Map.Entry<Unit<Q>, Partial> e : partials.entrySet()) {
+        Partial p = e.getValue();
+        UnitConverter converter = e.getKey().getConverterTo(unit);
+        count += p.count;
+        sum += p.convertSum(converter);
+        exact = exact == null || p.exact == null ? null : plus(exact, p.convertExactSum(converter));
+        double first = converter.convert(p.min);
+        double last = converter.convert(p.max);
+        min = Math.min(min, Math.min(first, last));
+        max = Math.max(max, Math.max(first, last));
+      }
+      return new Statistics<>(unit, count, exact == null ? (Number) sum : exact, min, max);
+    }
+  }
+
+  private static final class Partial {
+
+    private long count;
+    private double sum;
+    private BigRational exact = ZERO;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    void add(Number value) {
+      double v = value.doubleValue();
+      count++;
+      sum += v;
+      min = Math.min(min, v);
+      max = Math.max(max, v);
+      if (exact != null) {
+        exact = isExact(value) ? plus(exact, value) : null;
+      }
+    }
+
+    Partial merge(Partial that) {
+      count += that.count;
+      sum += that.sum;
+      min = Math.min(min, that.min);
+      max = Math.max(max, that.max);
+      exact = exact == null || that.exact == null ? null : plus(exact, that.exact);
+      return this;
+    }
+
+    // Converter of sum of n values is applied as n * c(sum / n) unless it is linear: c(x) = a * x.
+    double convertSum(UnitConverter converter) {
+      if (converter.isLinear()) {
+        return converter.convert(sum);
+      }
+      return converter.convert(sum / count) * count;
+    }
+
+    Number convertExactSum(UnitConverter converter) {
+      if (converter.isLinear()) {
+        return converter.convert(exact);
+      }
+      return Adapters.lookup(converter.convert(Adapters.lookup(exact).div(count))).multiply(count);
+    }
+  }
+}
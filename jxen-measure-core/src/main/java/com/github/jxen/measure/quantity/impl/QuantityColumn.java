@@ -0,0 +1,305 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.measure.converter.Converters;
+import com.github.jxen.measure.unit.AbstractUnit;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.spi.ServiceProvider;
+import javax.measure.spi.SystemOfUnits;
+
+/**
+ * {@code QuantityColumn} class represents column of quantities of the same unit stored outside of heap,
+ * in direct or memory-mapped buffers. Storage starts with fixed size header which records unit by name,
+ * values follow as little-endian {@code double} values. Unit is resolved through
+ * {@link javax.measure.spi.SystemOfUnitsService}, so it has to be registered in one of available systems of units.
+ * Values are kept in chunks of 1 GiB, so files larger than a single mapping can hold are mapped chunk by chunk.
+ *
+ * @author Denis Murashev
+ *
+ * @param <Q> quantity type
+ *
+ * @since Measure 0.9
+ */
+public final class QuantityColumn<Q extends Quantity<Q>> {
+
+  private static final int MAGIC = 0x51434F4C;
+  private static final int HEADER_SIZE = 128;
+  private static final int NAME_OFFSET = 8;
+  private static final int CHUNK_SHIFT = 27;
+  private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+  private static final long CHUNK_BYTES = (long) CHUNK_SIZE * Double.BYTES;
+
+  private final ByteBuffer header;
+  private final ByteBuffer[] buffers;
+  private final DoubleBuffer[] chunks;
+  private final int size;
+  private volatile AbstractUnit<Q> unit;
+
+  private QuantityColumn(ByteBuffer header, ByteBuffer[] buffers, AbstractUnit<Q> unit) {
+    this.header = header;
+    this.buffers = buffers;
+    this.unit = unit;
+    chunks = new DoubleBuffer[buffers.length];
+    long count = 0;
+    for (int i = 0; i < buffers.length; i++) {
+      chunks[i] = buffers[i].duplicate().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+      count += chunks[i].capacity();
+    }
+    size = (int) count;
+  }
+
+  /**
+   * Creates column in direct buffers.
+   *
+   * @param unit unit
+   * @param size number of values
+   * @param <Q> quantity type
+   * @return column
+   */
+  public static <Q extends Quantity<Q>> QuantityColumn<Q> allocate(Unit<Q> unit, int size) {
+    checkSize(size);
+    ByteBuffer[] buffers = new ByteBuffer[chunkCount(size)];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = ByteBuffer.allocateDirect((int) chunkBytes(size, i));
+    }
+    return create(ByteBuffer.allocateDirect(HEADER_SIZE), buffers, unit);
+  }
+
+  /**
+   * Creates file of given size and maps it as column.
+   *
+   * @param path file
+   * @param unit unit
+   * @param size number of values
+   * @param <Q> quantity type
+   * @return column
+   * @throws IOException in case of I/O error
+   */
+  public static <Q extends Quantity<Q>> QuantityColumn<Q> create(Path path, Unit<Q> unit, int size)
+      throws IOException {
+    checkSize(size);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      return create(channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE), map(channel, size), unit);
+    }
+  }
+
+  /**
+   * Maps existing file as column.
+   *
+   * @param path file
+   * @param type quantity type
+   * @param <Q> quantity type
+   * @return column
+   * @throws IOException in case of I/O error
+   */
+  public static <Q extends Quantity<Q>> QuantityColumn<Q> open(Path path, Class<Q> type) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      long length = channel.size() - HEADER_SIZE;
+      if (length < 0 || length % Double.BYTES != 0 || length / Double.BYTES > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("File does not contain quantity column: " + path);
+      }
+      ByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+      AbstractUnit<Q> unit = readHeader(header).asType(type);
+      return new QuantityColumn<>(header, map(channel, (int) (length / Double.BYTES)), unit);
+    }
+  }
+
+  /**
+   * Wraps buffer which contains column.
+   *
+   * @param buffer buffer with header and values
+   * @param type   quantity type
+   * @param <Q> quantity type
+   * @return column
+   */
+  public static <Q extends Quantity<Q>> QuantityColumn<Q> wrap(ByteBuffer buffer, Class<Q> type) {
+    AbstractUnit<Q> unit = readHeader(buffer).asType(type);
+    ByteBuffer values = buffer.duplicate().position(HEADER_SIZE).slice();
+    int size = values.capacity() / Double.BYTES;
+    ByteBuffer[] buffers = new ByteBuffer[chunkCount(size)];
+    for (int i = 0; i < buffers.length; i++) {
+      int start = (int) (i * CHUNK_BYTES);
+      buffers[i] = values.duplicate().position(start).limit(start + (int) chunkBytes(size, i)).slice();
+    }
+    return new QuantityColumn<>(buffer, buffers, unit);
+  }
+
+  /**
+   * Provides number of values.
+   *
+   * @return size
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Provides unit.
+   *
+   * @return unit
+   */
+  public Unit<Q> getUnit() {
+    return unit;
+  }
+
+  /**
+   * Provides value.
+   *
+   * @param index index
+   * @return value
+   */
+  public double getDouble(int index) {
+    return chunk(index).get(index & CHUNK_MASK);
+  }
+
+  /**
+   * Sets value.
+   *
+   * @param index index
+   * @param value value
+   */
+  public void setDouble(int index, double value) {
+    chunk(index).put(index & CHUNK_MASK, value);
+  }
+
+  /**
+   * Materializes value as quantity.
+   *
+   * @param index index
+   * @return quantity
+   */
+  public DoubleQuantity<Q> get(int index) {
+    return new DoubleQuantityImpl<>(getDouble(index), unit);
+  }
+
+  /**
+   * Converts all values in place to given unit and records new unit in header.
+   *
+   * @param unit target unit
+   */
+  public synchronized void convertTo(Unit<Q> unit) {
+    if (unit.equals(this.unit)) {
+      return;
+    }
+    AbstractUnit<Q> target = toAbstractUnit(unit);
+    DoubleUnaryOperator operator = Converters.compile(this.unit.getConverterTo(target));
+    for (DoubleBuffer chunk : chunks) {
+      for (int i = 0; i < chunk.capacity(); i++) {
+        chunk.put(i, operator.applyAsDouble(chunk.get(i)));
+      }
+    }
+    writeHeader(header, target);
+    this.unit = target;
+  }
+
+  /**
+   * Writes changes of memory-mapped column to storage device.
+   */
+  public void force() {
+    for (ByteBuffer buffer : buffers) {
+      force(buffer);
+    }
+    force(header);
+  }
+
+  private static void force(ByteBuffer buffer) {
+    if (buffer instanceof MappedByteBuffer) {
+      ((MappedByteBuffer) buffer).force();
+    }
+  }
+
+  private DoubleBuffer chunk(int index) {
+    Objects.checkIndex(index, size);
+    return chunks[index >>> CHUNK_SHIFT];
+  }
+
+  private static void checkSize(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("Negative column size: " + size);
+    }
+  }
+
+  private static int chunkCount(int size) {
+    return (int) (((long) size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+  }
+
+  private static long chunkBytes(int size, int chunk) {
+    return Math.min(CHUNK_SIZE, size - ((long) chunk << CHUNK_SHIFT)) * Double.BYTES;
+  }
+
+  private static ByteBuffer[] map(FileChannel channel, int size) throws IOException {
+    ByteBuffer[] buffers = new ByteBuffer[chunkCount(size)];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + i * CHUNK_BYTES, chunkBytes(size, i));
+    }
+    return buffers;
+  }
+
+  private static <Q extends Quantity<Q>> QuantityColumn<Q> create(ByteBuffer header, ByteBuffer[] buffers,
+      Unit<Q> unit) {
+    AbstractUnit<Q> u = toAbstractUnit(unit);
+    writeHeader(header, u);
+    return new QuantityColumn<>(header, buffers, u);
+  }
+
+  private static AbstractUnit<?> readHeader(ByteBuffer buffer) {
+    ByteBuffer header = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    if (header.capacity() < HEADER_SIZE || header.getInt(0) != MAGIC) {
+      throw new IllegalArgumentException("Buffer does not contain quantity column");
+    }
+    int length = header.getInt(Integer.BYTES);
+    if (length < 0 || length > HEADER_SIZE - NAME_OFFSET) {
+      throw new IllegalArgumentException("Invalid unit name length: " + length);
+    }
+    byte[] bytes = new byte[length];
+    header.position(NAME_OFFSET);
+    header.get(bytes);
+    return resolve(new String(bytes, StandardCharsets.UTF_8));
+  }
+
+  private static void writeHeader(ByteBuffer buffer, AbstractUnit<?> unit) {
+    String name = unit.getName();
+    if (!unit.equals(resolve(name))) {
+      throw new IllegalArgumentException("Unit is not registered in any system of units: " + unit);
+    }
+    byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > HEADER_SIZE - NAME_OFFSET) {
+      throw new IllegalArgumentException("Unit name is too long: " + name);
+    }
+    ByteBuffer header = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    header.putInt(0, MAGIC);
+    header.putInt(Integer.BYTES, bytes.length);
+    header.position(NAME_OFFSET);
+    header.put(bytes);
+  }
+
+  private static AbstractUnit<?> resolve(String name) {
+    for (SystemOfUnits system : ServiceProvider.current().getSystemOfUnitsService().getAvailableSystemsOfUnits()) {
+      Unit<?> unit = system.getUnit(name);
+      if (unit instanceof AbstractUnit) {
+        return (AbstractUnit<?>) unit;
+      }
+    }
+    throw new IllegalArgumentException("Unknown unit: " + name);
+  }
+
+  private static <Q extends Quantity<Q>> AbstractUnit<Q> toAbstractUnit(Unit<Q> unit) {
+    if (unit instanceof AbstractUnit) {
+      return (AbstractUnit<Q>) unit;
+    }
+    throw new UnsupportedOperationException("Unit class is not supported: " + unit.getClass());
+  }
+}
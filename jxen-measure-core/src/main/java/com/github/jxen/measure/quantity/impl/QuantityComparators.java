@@ -0,0 +1,135 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.measure.unit.AbstractUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+/**
+ * {@code QuantityComparators} class provides comparison and sorting of quantities expressed in different units.
+ * Quantities are compared by their values in system unit, which are evaluated with cached converters
+ * without creation of intermediate quantities.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+public final class QuantityComparators {
+
+  private QuantityComparators() {
+  }
+
+  /**
+   * Provides comparator of quantities by value in system unit.
+   *
+   * @param <Q> quantity type
+   * @return comparator
+   */
+  public static <Q extends Quantity<Q>> Comparator<Quantity<Q>> bySystemValue() {
+    return (a, b) -> Double.compare(systemValue(a), systemValue(b));
+  }
+
+  /**
+   * Sorts quantities in ascending order. Value in system unit is evaluated once per element.
+   * The sort is stable.
+   *
+   * @param list list to sort
+   * @param <Q> quantity type
+   * @param <T> element type
+   */
+  public static <Q extends Quantity<Q>, T extends Quantity<Q>> void sort(List<T> list) {
+    Object[] array = list.toArray();
+    int[] order = order(array);
+    ListIterator<T> iterator = list.listIterator();
+    for (int index : order) {
+      iterator.next();
+      @SuppressWarnings("unchecked")
+      T element = (T) array[index];
+      iterator.set(element);
+    }
+  }
+
+  /**
+   * Sorts quantities in ascending order. Value in system unit is evaluated once per element.
+   * The sort is stable.
+   *
+   * @param array array to sort
+   * @param <Q> quantity type
+   * @param <T> element type
+   */
+  public static <Q extends Quantity<Q>, T extends Quantity<Q>> void sort(T[] array) {
+    T[] copy = array.clone();
+    int[] order = order(copy);
+    for (int i = 0; i < order.length; i++) {
+      array[i] = copy[order[i]];
+    }
+  }
+
+  /**
+   * Provides value of quantity in system unit.
+   *
+   * @param quantity quantity
+   * @return value
+   */
+  public static double systemValue(Quantity<?> quantity) {
+    Unit<?> unit = quantity.getUnit();
+    if (unit instanceof AbstractUnit) {
+      return ((AbstractUnit<?>) unit).getSystemConverter().convert(doubleValue(quantity));
+    }
+    return systemConverter(unit).convert(doubleValue(quantity));
+  }
+
+  private static <Q extends Quantity<Q>> UnitConverter systemConverter(Unit<Q> unit) {
+    return unit.getConverterTo(unit.getSystemUnit());
+  }
+
+  static <Q extends Quantity<Q>> double doubleValue(Quantity<Q> quantity, Unit<Q> unit) {
+    if (unit.equals(quantity.getUnit())) {
+      return doubleValue(quantity);
+    }
+    return quantity.getUnit().getConverterTo(unit).convert(doubleValue(quantity));
+  }
+
+  private static double doubleValue(Quantity<?> quantity) {
+    if (quantity instanceof DoubleQuantity) {
+      return ((DoubleQuantity<?>) quantity).doubleValue();
+    }
+    return quantity.getValue().doubleValue();
+  }
+
+  private static int[] order(Object[] array) {
+    int n = array.length;
+    double[] keys = new double[n];
+    int[] order = new int[n];
+    for (int i = 0; i < n; i++) {
+      keys[i] = systemValue((Quantity<?>) array[i]);
+      order[i] = i;
+    }
+    int[] buffer = new int[n];
+    for (int width = 1; width < n; width *= 2) {
+      for (int low = 0; low < n - width; low += 2 * width) {
+        merge(keys, order, buffer, low, low + width, Math.min(low + 2 * width, n));
+      }
+    }
+    return order;
+  }
+
+  private static void merge(double[] keys, int[] order, int[] buffer, int low, int middle, int high) {
+    if (Double.compare(keys[order[middle - 1]], keys[order[middle]]) <= 0) {
+      return;
+    }
+    System.arraycopy(order, low, buffer, low, high - low);
+    int i = low;
+    int j = middle;
+    for (int k = low; k < high; k++) {
+      if (j >= high || i < middle && Double.compare(keys[buffer[i]], keys[buffer[j]]) <= 0) {
+        order[k] = buffer[i++];
+      } else {
+        order[k] = buffer[j++];
+      }
+    }
+  }
+}
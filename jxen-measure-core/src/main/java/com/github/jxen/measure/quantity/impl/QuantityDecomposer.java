@@ -1,6 +1,7 @@
 package com.github.jxen.measure.quantity.impl;
 
 import com.github.jxen.math.common.Adapters;
+import com.github.jxen.math.rational.BigRational;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -10,9 +11,13 @@ import java.util.TreeSet;
 import javax.measure.MeasurementException;
 import javax.measure.Quantity;
 import javax.measure.Unit;
+import javax.measure.UnitConverter;
 
 /**
  * {@code QuantityDecomposer} class is able to decompose quantity by the set of units.
+ * Ratios of units to the smallest one are evaluated once, so decomposition of integral and {@code double} values and
+ * batch decomposition of arrays are performed with primitive arithmetic only. Amounts are provided as {@code double}
+ * values. Instances are immutable and thread-safe.
  *
  * @author Denis Murashev
  *
@@ -23,6 +28,9 @@ import javax.measure.Unit;
 public class QuantityDecomposer<Q extends Quantity<Q>> {
 
   private final NavigableSet<Unit<Q>> units;
+  private final List<Unit<Q>> ordered;
+  private final double[] ratios;
+  private final long[] exactRatios;
 
   /**
    * Initialises instance with given collection of units.
@@ -30,12 +38,46 @@ public class QuantityDecomposer<Q extends Quantity<Q>> {
    * @param units  units
    */
   public QuantityDecomposer(Collection<Unit<Q>> units) {
-    this.units = new TreeSet<>(QuantityDecomposer::compare);
-    this.units.addAll(units);
+    NavigableSet<Unit<Q>> set = new TreeSet<>(QuantityDecomposer::compare);
+    set.addAll(units);
+    this.units = Collections.unmodifiableNavigableSet(set);
+    ordered = new ArrayList<>(set);
+    ratios = evaluateRatios(ordered);
+    exactRatios = ratios == null ? null : evaluateExactRatios(ordered);
   }
 
   private static <Q extends Quantity<Q>, E extends Unit<Q>> int compare(E a, E b) {
-    return Double.compare(1, Quantities.of(1, a).to(b).getValue().doubleValue());
+    return Double.compare(1, a.getConverterTo(b).convert(1.0));
+  }
+
+  private static <Q extends Quantity<Q>> double[] evaluateRatios(List<Unit<Q>> units) {
+    if (units.isEmpty()) {
+      return null;
+    }
+    Unit<Q> last = units.get(units.size() - 1);
+    double[] result = new double[units.size()];
+    for (int i = 0; i < result.length; i++) {
+      UnitConverter converter = units.get(i).getConverterTo(last);
+      if (!converter.isLinear()) {
+        return null;
+      }
+      result[i] = converter.convert(1.0);
+    }
+    return result;
+  }
+
+  private static <Q extends Quantity<Q>> long[] evaluateExactRatios(List<Unit<Q>> units) {
+    Unit<Q> last = units.get(units.size() - 1);
+    long[] result = new long[units.size()];
+    for (int i = 0; i < result.length; i++) {
+      Number ratio = units.get(i).getConverterTo(last).convert(BigRational.ONE);
+      long value = ratio.longValue();
+      if (value <= 0 || !BigRational.valueOf(value).equals(BigRational.valueOf(ratio))) {
+        return null;
+      }
+      result[i] = value;
+    }
+    return result;
   }
 
   /**
@@ -62,9 +104,19 @@ public class QuantityDecomposer<Q extends Quantity<Q>> {
     if (value == 0) {
       return Collections.emptyList();
     }
+    if (exactRatios != null && isIntegral(quantity.getValue())) {
+      long ratio = integerRatio(quantity.getUnit());
+      long amount = quantity.getValue().longValue();
+      if (ratio > 0 && amount <= Long.MAX_VALUE / ratio) {
+        return decomposeLong(amount * ratio);
+      }
+    }
+    if (quantity.getValue() instanceof Double && ratios != null) {
+      return decomposeDouble(quantity.getUnit().getConverterTo(ordered.get(ordered.size() - 1)).convert(value));
+    }
     List<Quantity<Q>> list = new ArrayList<>();
     Quantity<Q> amount = quantity;
-    for (Unit<Q> unit : units) {
+    for (Unit<Q> unit : ordered) {
       if (toDouble(amount) == 0) {
         break;
       }
@@ -73,6 +125,129 @@ public class QuantityDecomposer<Q extends Quantity<Q>> {
     return list;
   }
 
+  /**
+   * Decomposes values of given unit. Units have to be related by integer ratios.
+   *
+   * @param values values
+   * @param unit   unit of values
+   * @return amounts of units in order of {@link #getUnits()}, {@code getUnits().size()} amounts per value
+   */
+  public final long[] decompose(long[] values, Unit<Q> unit) {
+    if (exactRatios == null) {
+      throw new UnsupportedOperationException("Units are not related by integer ratios: " + units);
+    }
+    long ratio = exactRatio(unit);
+    int n = exactRatios.length;
+    long[] result = new long[values.length * n];
+    for (int i = 0; i < values.length; i++) {
+      long value = Math.multiplyExact(checkNegative(values[i]), ratio);
+      for (int j = 0; j < n; j++) {
+        result[i * n + j] = value / exactRatios[j];
+        value %= exactRatios[j];
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Decomposes values of given unit. All amounts except the last one are integral.
+   *
+   * @param values values
+   * @param unit   unit of values
+   * @return amounts of units in order of {@link #getUnits()}, {@code getUnits().size()} amounts per value
+   */
+  public final double[] decompose(double[] values, Unit<Q> unit) {
+    if (ratios == null) {
+      throw new UnsupportedOperationException("Units are not related linearly: " + units);
+    }
+    UnitConverter converter = unit.getConverterTo(ordered.get(ordered.size() - 1));
+    int n = ratios.length;
+    double[] result = new double[values.length * n];
+    for (int i = 0; i < values.length; i++) {
+      double value = converter.convert(checkNegative(values[i]));
+      for (int j = 0; j < n - 1; j++) {
+        double amount = Math.floor(value / ratios[j]);
+        result[i * n + j] = amount;
+        value -= amount * ratios[j];
+      }
+      result[i * n + n - 1] = value;
+    }
+    return result;
+  }
+
+  private List<Quantity<Q>> decomposeLong(long smallest) {
+    List<Quantity<Q>> list = new ArrayList<>();
+    long value = smallest;
+    for (int j = 0; j < exactRatios.length && value > 0; j++) {
+      long amount = value / exactRatios[j];
+      if (amount > 0) {
+        list.add(Quantities.of((double) amount, ordered.get(j)));
+        value %= exactRatios[j];
+      }
+    }
+    return list;
+  }
+
+  private List<Quantity<Q>> decomposeDouble(double smallest) {
+    List<Quantity<Q>> list = new ArrayList<>();
+    double value = smallest;
+    int n = ratios.length;
+    for (int j = 0; j < n - 1 && value > 0; j++) {
+      double amount = Math.floor(value / ratios[j]);
+      if (amount > 0) {
+        list.add(Quantities.of(amount, ordered.get(j)));
+        value -= amount * ratios[j];
+      }
+    }
+    if (value > 0) {
+      list.add(Quantities.of(value, ordered.get(n - 1)));
+    }
+    return list;
+  }
+
+  private long exactRatio(Unit<Q> unit) {
+    long ratio = integerRatio(unit);
+    if (ratio == 0) {
+      throw new UnsupportedOperationException("Unit is not integer multiple of " + units.last() + ": " + unit);
+    }
+    return ratio;
+  }
+
+  private long integerRatio(Unit<Q> unit) {
+    int index = ordered.indexOf(unit);
+    if (index >= 0) {
+      return exactRatios[index];
+    }
+    UnitConverter converter = unit.getConverterTo(ordered.get(ordered.size() - 1));
+    if (!converter.isLinear()) {
+      return 0;
+    }
+    Number ratio = converter.convert(BigRational.ONE);
+    long value = ratio.longValue();
+    if (value <= 0 || !BigRational.valueOf(value).equals(BigRational.valueOf(ratio))) {
+      return 0;
+    }
+    return value;
+  }
+
+  private static boolean isIntegral(Number value) {
+    return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+  }
+
+  private static long checkNegative(long value) {
+    if (value < 0) {
+      throw new MeasurementException("Operation is not supported for negative values");
+    }
+    return value;
+  }
+
+  private static double checkNegative(double value) {
+    if (value < 0) {
+      throw new MeasurementException("Operation is not supported for negative values");
+    }
+    return value;
+  }
+
   private Quantity<Q> forUnit(Unit<Q> unit, Quantity<Q> amount, List<Quantity<Q>> list) {
     Quantity<Q> q = amount.to(unit);
     if (units.last().equals(unit)) {
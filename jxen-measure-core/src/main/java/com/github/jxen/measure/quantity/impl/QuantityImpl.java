@@ -16,11 +16,11 @@ final class QuantityImpl<Q extends Quantity<Q>> extends AbstractQuantity<Q> {
 
   @Override
   protected BiFunction<Number, AbstractUnit<Q>, Q> factory() {
-    return this::create;
+    return QuantityImpl::create;
   }
 
   @SuppressWarnings("unchecked")
-  private Q create(Number v, AbstractUnit<Q> u) {
+  private static <Q extends Quantity<Q>> Q create(Number v, AbstractUnit<Q> u) {
     return (Q) new QuantityImpl<>(v, u);
   }
 }
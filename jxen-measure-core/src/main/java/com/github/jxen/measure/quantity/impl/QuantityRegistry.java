@@ -0,0 +1,229 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.measure.dimension.Dimensions;
+import com.github.jxen.measure.unit.AbstractUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.measure.Dimension;
+import javax.measure.Quantity;
+import javax.measure.Quantity.Scale;
+import javax.measure.Unit;
+import javax.measure.quantity.Angle;
+import javax.measure.quantity.Area;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Mass;
+import javax.measure.quantity.Speed;
+import javax.measure.spi.ServiceProvider;
+import si.uom.quantity.Density;
+
+/**
+ * {@code QuantityRegistry} class maps quantity types to constructors of their implementations.
+ * Every type is resolved once, types without registered implementation are backed by {@link QuantityImpl}.
+ * Registered implementations are also looked up by dimension, if no other registered type has the same dimension.
+ * Quantities with primitive {@code double} value are cast to their primitive-backed implementations.
+ * Dimensionless quantities are always ambiguous, as many quantity types share this dimension.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+final class QuantityRegistry {
+
+  private static final Map<Class<?>, Entry<?>> ENTRIES = new ConcurrentHashMap<>();
+
+  private static volatile Map<Dimension, Entry<?>> dimensions;
+
+  static {
+    register(Angle.class, AngleAmount::new, DoubleAngleAmount::new);
+    register(Area.class, AreaAmount::new, DoubleAreaAmount::new);
+    register(Density.class, DensityAmount::new, DoubleDensityAmount::new);
+    register(Length.class, LengthAmount::new, DoubleLengthAmount::new);
+    register(Mass.class, MassAmount::new, DoubleMassAmount::new);
+    register(Speed.class, SpeedAmount::new, DoubleSpeedAmount::new);
+  }
+
+  private QuantityRegistry() {
+  }
+
+  /**
+   * Registers constructors of quantity implementations.
+   *
+   * @param type              quantity type
+   * @param constructor       constructor
+   * @param doubleConstructor constructor of implementation with primitive value
+   * @param <Q> quantity type
+   */
+  static <Q extends Quantity<Q>> void register(Class<Q> type, Constructor<Q> constructor,
+      DoubleQuantity.Factory<Q> doubleConstructor) {
+    ENTRIES.put(type, new Entry<>(type, constructor, doubleConstructor, true));
+    dimensions = null;
+  }
+
+  /**
+   * Provides registry entry for quantity type.
+   *
+   * @param type quantity type
+   * @param <Q> quantity type
+   * @return entry
+   */
+  @SuppressWarnings("unchecked")
+  static <Q extends Quantity<Q>> Entry<Q> lookup(Class<Q> type) {
+    Entry<?> entry = ENTRIES.get(type);
+    if (entry == null) {
+      entry = new Entry<>(type, (v, u, s) -> (Q) new QuantityImpl<>(v, u, s),
+          (v, u) -> (Q) new DoubleQuantityImpl<>(v, u), false);
+      Entry<?> previous = ENTRIES.putIfAbsent(type, entry);
+      if (previous != null) {
+        entry = previous;
+      }
+    }
+    return (Entry<Q>) entry;
+  }
+
+  /**
+   * Creates quantity of implementation registered for dimension of given unit.
+   * Quantities of unknown or ambiguous dimensions are backed by {@link QuantityImpl}.
+   *
+   * @param value value
+   * @param unit  unit
+   * @param scale scale
+   * @param <Q> quantity type
+   * @return quantity
+   */
+  @SuppressWarnings("unchecked")
+  static <Q extends Quantity<Q>> Quantity<Q> create(Number value, AbstractUnit<Q> unit, Scale scale) {
+    Map<Dimension, Entry<?>> map = dimensions;
+    if (map == null) {
+      map = indexDimensions();
+      dimensions = map;
+    }
+    Entry<?> entry = map.get(unit.getDimension());
+    if (entry == null) {
+      return new QuantityImpl<>(value, unit, scale);
+    }
+    return ((Entry<Q>) entry).create(value, unit, scale);
+  }
+
+  private static Map<Dimension, Entry<?>> indexDimensions() {
+    Map<Dimension, Entry<?>> map = new HashMap<>();
+    Set<Dimension> ambiguous = new HashSet<>();
+    ambiguous.add(Dimensions.DIMENSIONLESS);
+    for (Entry<?> entry : ENTRIES.values()) {
+      Optional<Dimension> dimension = entry.registered ? entry.getDimension() : Optional.empty();
+      if (dimension.isPresent() && map.putIfAbsent(dimension.get(), entry) != null) {
+        ambiguous.add(dimension.get());
+      }
+    }
+    map.keySet().removeAll(ambiguous);
+    return map;
+  }
+
+  /**
+   * Casts quantity to given type, checking its dimension.
+   *
+   * @param quantity quantity
+   * @param type     quantity type
+   * @param <T> quantity type
+   * @return quantity of given type
+   * @throws ClassCastException if dimension of quantity does not match the type
+   */
+  @SuppressWarnings("unchecked")
+  static <T extends Quantity<T>> T asType(Quantity<?> quantity, Class<T> type) {
+    Entry<T> entry = lookup(type);
+    Unit<?> unit = quantity.getUnit();
+    entry.checkDimension(unit);
+    if (type.isInstance(quantity)) {
+      return type.cast(quantity);
+    }
+    if (!(unit instanceof AbstractUnit)) {
+      throw new UnsupportedOperationException("Unit class is not supported: " + unit.getClass());
+    }
+    AbstractUnit<T> typed = (AbstractUnit<T>) unit;
+    if (quantity instanceof DoubleQuantity && quantity.getScale() == Scale.ABSOLUTE) {
+      return entry.create(((DoubleQuantity<?>) quantity).doubleValue(), typed);
+    }
+    return entry.create(quantity.getValue(), typed, quantity.getScale());
+  }
+
+  /**
+   * Checks that dimension of unit matches dimension of quantity type.
+   *
+   * @param unit unit
+   * @param type quantity type
+   * @param <T> quantity type
+   * @throws ClassCastException if dimension of unit does not match the type
+   */
+  static <T extends Quantity<T>> void checkDimension(Unit<?> unit, Class<T> type) {
+    lookup(type).checkDimension(unit);
+  }
+
+  /**
+   * {@code Constructor} interface creates quantity implementation.
+   *
+   * @param <Q> quantity type
+   */
+  @FunctionalInterface
+  interface Constructor<Q extends Quantity<Q>> {
+
+    /**
+     * Creates quantity.
+     *
+     * @param value value
+     * @param unit  unit
+     * @param scale scale
+     * @return quantity
+     */
+    Q create(Number value, AbstractUnit<Q> unit, Scale scale);
+  }
+
+  static final class Entry<Q extends Quantity<Q>> {
+
+    private final Class<Q> type;
+    private final Constructor<Q> constructor;
+    private final DoubleQuantity.Factory<Q> doubleConstructor;
+    private final boolean registered;
+    private volatile Optional<Dimension> dimension;
+
+    private Entry(Class<Q> type, Constructor<Q> constructor, DoubleQuantity.Factory<Q> doubleConstructor,
+        boolean registered) {
+      this.type = type;
+      this.constructor = constructor;
+      this.doubleConstructor = doubleConstructor;
+      this.registered = registered;
+    }
+
+    Q create(Number value, AbstractUnit<Q> unit, Scale scale) {
+      return constructor.create(value, unit, scale);
+    }
+
+    Q create(double value, AbstractUnit<Q> unit) {
+      return doubleConstructor.create(value, unit);
+    }
+
+    Unit<Q> getSystemUnit() {
+      return ServiceProvider.current().getSystemOfUnitsService().getSystemOfUnits().getUnit(type);
+    }
+
+    Optional<Dimension> getDimension() {
+      Optional<Dimension> result = dimension;
+      if (result == null) {
+        Unit<Q> systemUnit = getSystemUnit();
+        result = Optional.ofNullable(systemUnit == null ? null : systemUnit.getDimension());
+        dimension = result;
+      }
+      return result;
+    }
+
+    void checkDimension(Unit<?> unit) {
+      // Results of dimension algebra are canonical, so equal dimensions are equal in both directions.
+      Optional<Dimension> expected = getDimension();
+      if (expected.isPresent() && !expected.get().equals(unit.getDimension())) {
+        throw new ClassCastException("Dimension of " + unit + " is not " + expected.get() + " of " + type.getName());
+      }
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package com.github.jxen.measure.quantity.impl;
+
+import com.github.jxen.measure.converter.Converters;
+import com.github.jxen.measure.unit.AbstractUnit;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+/**
+ * {@code QuantityVector} class represents immutable sequence of quantities of the same unit.
+ * Values are kept in primitive array and materialize as {@link Quantity} only on demand.
+ * Bulk operations convert all values with a single {@link UnitConverter}.
+ *
+ * @author Denis Murashev
+ *
+ * @param <Q> quantity type
+ *
+ * @since Measure 0.9
+ */
+public final class QuantityVector<Q extends Quantity<Q>> {
+
+  private final AbstractUnit<Q> unit;
+  private final double[] values;
+  private final int offset;
+  private final int length;
+
+  private QuantityVector(AbstractUnit<Q> unit, double[] values, int offset, int length) {
+    this.unit = unit;
+    this.values = values;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Creates vector of given values and unit.
+   *
+   * @param unit   unit
+   * @param values values, the array is copied
+   * @param <Q> quantity type
+   * @return vector
+   */
+  public static <Q extends Quantity<Q>> QuantityVector<Q> of(Unit<Q> unit, double... values) {
+    return new QuantityVector<>(toAbstractUnit(unit), values.clone(), 0, values.length);
+  }
+
+  /**
+   * Provides number of elements.
+   *
+   * @return size
+   */
+  public int size() {
+    return length;
+  }
+
+  /**
+   * Provides unit.
+   *
+   * @return unit
+   */
+  public Unit<Q> getUnit() {
+    return unit;
+  }
+
+  /**
+   * Provides value of element.
+   *
+   * @param index index
+   * @return value
+   */
+  public double getDouble(int index) {
+    return values[offset + Objects.checkIndex(index, length)];
+  }
+
+  /**
+   * Materializes element as quantity.
+   *
+   * @param index index
+   * @return quantity
+   */
+  public DoubleQuantity<Q> get(int index) {
+    return new DoubleQuantityImpl<>(getDouble(index), unit);
+  }
+
+  /**
+   * Converts all values to given unit.
+   *
+   * @param unit target unit
+   * @return vector in target unit
+   */
+  public QuantityVector<Q> to(Unit<Q> unit) {
+    if (unit.equals(this.unit)) {
+      return this;
+    }
+    return new QuantityVector<>(toAbstractUnit(unit), toArray(unit), 0, length);
+  }
+
+  /**
+   * Adds vectors element by element. The result is expressed in unit of this vector.
+   *
+   * @param augend vector of the same size
+   * @return sum
+   */
+  public QuantityVector<Q> add(QuantityVector<Q> augend) {
+    if (augend.length != length) {
+      throw new IllegalArgumentException("Vector sizes differ: " + length + " and " + augend.length);
+    }
+    double[] result = augend.toArray(unit);
+    for (int i = 0; i < length; i++) {
+      result[i] += values[offset + i];
+    }
+    return new QuantityVector<>(unit, result, 0, length);
+  }
+
+  /**
+   * Adds quantity to each element.
+   *
+   * @param augend quantity
+   * @return vector
+   */
+  public QuantityVector<Q> add(Quantity<Q> augend) {
+    double delta = augend.getUnit().getConverterTo(unit).convert(augend.getValue().doubleValue());
+    double[] result = new double[length];
+    for (int i = 0; i < length; i++) {
+      result[i] = values[offset + i] + delta;
+    }
+    return new QuantityVector<>(unit, result, 0, length);
+  }
+
+  /**
+   * Multiplies each element by given factor.
+   *
+   * @param factor factor
+   * @return vector
+   */
+  public QuantityVector<Q> scale(double factor) {
+    double[] result = new double[length];
+    for (int i = 0; i < length; i++) {
+      result[i] = values[offset + i] * factor;
+    }
+    return new QuantityVector<>(unit, result, 0, length);
+  }
+
+  /**
+   * Evaluates sum of elements.
+   *
+   * @return sum
+   */
+  public DoubleQuantity<Q> sum() {
+    double sum = 0;
+    for (int i = offset; i < offset + length; i++) {
+      sum += values[i];
+    }
+    return new DoubleQuantityImpl<>(sum, unit);
+  }
+
+  /**
+   * Finds minimal element.
+   *
+   * @return minimum
+   * @throws NoSuchElementException if vector is empty
+   */
+  public DoubleQuantity<Q> min() {
+    checkNotEmpty();
+    double min = values[offset];
+    for (int i = offset + 1; i < offset + length; i++) {
+      min = Math.min(min, values[i]);
+    }
+    return new DoubleQuantityImpl<>(min, unit);
+  }
+
+  /**
+   * Finds maximal element.
+   *
+   * @return maximum
+   * @throws NoSuchElementException if vector is empty
+   */
+  public DoubleQuantity<Q> max() {
+    checkNotEmpty();
+    double max = values[offset];
+    for (int i = offset + 1; i < offset + length; i++) {
+      max = Math.max(max, values[i]);
+    }
+    return new DoubleQuantityImpl<>(max, unit);
+  }
+
+  /**
+   * Selects elements which values match given predicate.
+   *
+   * @param predicate predicate on values in unit of this vector
+   * @return vector of matching elements
+   */
+  public QuantityVector<Q> filter(DoublePredicate predicate) {
+    double[] result = new double[length];
+    int count = 0;
+    for (int i = offset; i < offset + length; i++) {
+      if (predicate.test(values[i])) {
+        result[count++] = values[i];
+      }
+    }
+    return new QuantityVector<>(unit, result, 0, count);
+  }
+
+  /**
+   * Provides view on range of elements. Values are not copied.
+   *
+   * @param from first index, inclusive
+   * @param to   last index, exclusive
+   * @return slice
+   */
+  public QuantityVector<Q> slice(int from, int to) {
+    Objects.checkFromToIndex(from, to, length);
+    return new QuantityVector<>(unit, values, offset + from, to - from);
+  }
+
+  /**
+   * Copies values to new array.
+   *
+   * @return values
+   */
+  public double[] toArray() {
+    return Arrays.copyOfRange(values, offset, offset + length);
+  }
+
+  /**
+   * Copies values converted to given unit to new array.
+   *
+   * @param unit unit
+   * @return values
+   */
+  public double[] toArray(Unit<Q> unit) {
+    double[] result = new double[length];
+    Converters.convert(this.unit.getConverterTo(unit), values, offset, result, 0, length);
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null) {
+      return false;
+    }
+    if (getClass() != o.getClass()) {
+      return false;
+    }
+    QuantityVector<?> that = (QuantityVector<?>) o;
+    return unit.equals(that.unit)
+        && Arrays.equals(values, offset, offset + length, that.values, that.offset, that.offset + that.length);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = unit.hashCode();
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + Double.hashCode(values[i]);
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray()) + unit;
+  }
+
+  private void checkNotEmpty() {
+    if (length == 0) {
+      throw new NoSuchElementException("Vector is empty");
+    }
+  }
+
+  private static <Q extends Quantity<Q>> AbstractUnit<Q> toAbstractUnit(Unit<Q> unit) {
+    if (unit instanceof AbstractUnit) {
+      return (AbstractUnit<Q>) unit;
+    }
+    throw new UnsupportedOperationException("Unit class is not supported: " + unit.getClass());
+  }
+}
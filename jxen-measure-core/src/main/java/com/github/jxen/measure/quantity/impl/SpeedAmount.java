@@ -24,6 +24,17 @@ public class SpeedAmount extends AbstractQuantity<Speed> implements Speed {
     super(number, unit);
   }
 
+  /**
+   * Initializes instance with value, unit and scale.
+   *
+   * @param number value
+   * @param unit   unit
+   * @param scale  scale
+   */
+  public SpeedAmount(Number number, AbstractUnit<Speed> unit, Scale scale) {
+    super(number, unit, scale);
+  }
+
   @Override
   protected BiFunction<Number, AbstractUnit<Speed>, Speed> factory() {
     return SpeedAmount::new;
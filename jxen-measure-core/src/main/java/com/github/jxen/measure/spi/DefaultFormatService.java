@@ -6,7 +6,9 @@ import com.github.jxen.measure.format.MeasureUnitFormat;
 import java.text.DecimalFormat;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.measure.spi.FormatService;
 
 class DefaultFormatService implements FormatService {
@@ -15,6 +17,8 @@ class DefaultFormatService implements FormatService {
   private static final String FULL = "full";
   private static final Set<String> NAMES = new HashSet<>(Arrays.asList(DEFAULT, FULL));
 
+  private final Map<String, MeasureUnitFormat> unitFormats = new ConcurrentHashMap<>();
+
   @Override
   public MeasureQuantityFormat getQuantityFormat() {
     return new MeasureQuantityFormat(DecimalFormat.getInstance(), getUnitFormat());
@@ -27,15 +31,39 @@ class DefaultFormatService implements FormatService {
 
   @Override
   public MeasureUnitFormat getUnitFormat() {
-    return new MeasureUnitFormat();
+    return getUnitFormat(DEFAULT);
   }
 
   @Override
   public MeasureUnitFormat getUnitFormat(String name) {
-    if (FULL.equalsIgnoreCase(name)) {
+    String key = DEFAULT;
+    for (String formatName : getAvailableFormatNames(FormatType.UNIT_FORMAT)) {
+      if (formatName.equalsIgnoreCase(name)) {
+        key = formatName;
+      }
+    }
+    MeasureUnitFormat format = unitFormats.get(key);
+    if (format == null) {
+      format = createUnitFormat(key);
+      MeasureUnitFormat previous = unitFormats.putIfAbsent(key, format);
+      if (previous != null) {
+        format = previous;
+      }
+    }
+    return format;
+  }
+
+  /**
+   * Creates unit format with given name. Unit formats are thread-safe, so each of them is created once.
+   *
+   * @param name one of available format names
+   * @return unit format
+   */
+  protected MeasureUnitFormat createUnitFormat(String name) {
+    if (FULL.equals(name)) {
       return new FullUnitFormat();
     }
-    return new MeasureUnitFormat();
+    return MeasureUnitFormat.getInstance();
   }
 
   @Override
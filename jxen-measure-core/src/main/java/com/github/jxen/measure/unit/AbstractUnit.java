@@ -3,10 +3,17 @@ package com.github.jxen.measure.unit;
 import static com.github.jxen.measure.converter.Converters.IDENTITY;
 import static com.github.jxen.measure.converter.Converters.fromFactor;
 import static com.github.jxen.measure.converter.Converters.fromOffset;
+import static com.github.jxen.measure.unit.UnitAlgebra.Operation.DIVIDE;
+import static com.github.jxen.measure.unit.UnitAlgebra.Operation.MULTIPLY;
+import static com.github.jxen.measure.unit.UnitAlgebra.Operation.POW;
+import static com.github.jxen.measure.unit.UnitAlgebra.Operation.PREFIX;
+import static com.github.jxen.measure.unit.UnitAlgebra.Operation.ROOT;
 
 import com.github.jxen.math.common.Adapters;
 import com.github.jxen.measure.format.MeasureUnitFormat;
 import com.github.jxen.measure.format.UnitNameHelper;
+import com.github.jxen.measure.quantity.impl.Quantities;
+import java.util.Locale;
 import javax.measure.IncommensurableException;
 import javax.measure.Prefix;
 import javax.measure.Quantity;
@@ -28,6 +35,9 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
   private static final String ERROR_NOT_COMPATIBLE = "Units are not compatible";
 
   private final String name;
+  private volatile AbstractUnit<Q> systemUnit;
+  private volatile ConverterEntry lastConverter;
+  private volatile SymbolEntry symbol;
 
   /**
    * Initializes unit with given name.
@@ -40,7 +50,14 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
 
   @Override
   public String getSymbol() {
-    return new MeasureUnitFormat().format(this);
+    Locale locale = Locale.getDefault();
+    SymbolEntry entry = symbol;
+    // Default locale is the same instance until it is changed
+    if (entry == null || entry.locale != locale) {
+      entry = new SymbolEntry(locale, MeasureUnitFormat.getInstance().format(this, locale));
+      symbol = entry;
+    }
+    return entry.symbol;
   }
 
   @Override
@@ -50,7 +67,12 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
 
   @Override
   public final AbstractUnit<Q> getSystemUnit() {
-    return toSystemUnit();
+    AbstractUnit<Q> unit = systemUnit;
+    if (unit == null) {
+      unit = toSystemUnit();
+      systemUnit = unit;
+    }
+    return unit;
   }
 
   @Override
@@ -58,13 +80,7 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
     if (equals(that)) {
       return true;
     }
-    if (that instanceof AbstractUnit) {
-      if (getDimension().equals(that.getDimension())) {
-        return true;
-      }
-      return getDimension().getBaseDimensions().equals(that.getDimension().getBaseDimensions());
-    }
-    return false;
+    return that instanceof AbstractUnit && getDimension().equals(that.getDimension());
   }
 
   @Override
@@ -75,7 +91,7 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
   @SuppressWarnings("unchecked")
   @Override
   public <T extends Quantity<T>> AbstractUnit<T> asType(Class<T> type) {
-    // TODO Check dimension
+    Quantities.checkDimension(this, type);
     return (AbstractUnit<T>) this;
   }
 
@@ -84,6 +100,19 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
     if (equals(that)) {
       return IDENTITY;
     }
+    ConverterEntry entry = lastConverter;
+    if (entry != null && entry.target == that) {
+      return entry.converter;
+    }
+    if (that instanceof AbstractUnit) {
+      try {
+        UnitConverter converter = ConverterCache.getInstance().get(this, (AbstractUnit<Q>) that);
+        lastConverter = new ConverterEntry(that, converter);
+        return converter;
+      } catch (IncommensurableException e) {
+        throw new UnconvertibleException(e);
+      }
+    }
     if (getSystemUnit().equals(that.getSystemUnit())) {
       UnitConverter thisToSystem = getSystemConverter();
       UnitConverter thatToSystem = that.getConverterTo(that.getSystemUnit());
@@ -98,12 +127,26 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
 
   @Override
   public UnitConverter getConverterToAny(Unit<?> that) throws IncommensurableException {
-    if (!isCompatible(that)) {
-      throw new IncommensurableException(this + " is not compatible with " + that);
+    if (that instanceof AbstractUnit) {
+      return ConverterCache.getInstance().get(this, (AbstractUnit<?>) that);
+    }
+    throw new IncommensurableException(this + " is not compatible with " + that);
+  }
+
+  static UnitConverter computeConverter(AbstractUnit<?> source, AbstractUnit<?> target)
+      throws IncommensurableException {
+    if (source.equals(target)) {
+      return IDENTITY;
+    }
+    if (source.getSystemUnit().equals(target.getSystemUnit())) {
+      return target.getSystemConverter().inverse().concatenate(source.getSystemConverter());
+    }
+    if (!source.isCompatible(target)) {
+      throw new IncommensurableException(source + " is not compatible with " + target);
     }
-    UnitConverter thisConverter = getConverter(this);
-    UnitConverter thatConverter = getConverter((AbstractUnit<?>) that);
-    return thatConverter.inverse().concatenate(thisConverter);
+    UnitConverter sourceConverter = getConverter(source);
+    UnitConverter targetConverter = getConverter(target);
+    return targetConverter.inverse().concatenate(sourceConverter);
   }
 
   private static UnitConverter getConverter(AbstractUnit<?> unit) {
@@ -112,7 +155,7 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
 
   @Override
   public AbstractUnit<Q> alternate(String symbol) {
-    return new AlternateUnit<>(symbol, this);
+    return UnitTable.intern(new AlternateUnit<>(symbol, this));
   }
 
   @Override
@@ -138,15 +181,16 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
   @Override
   public AbstractUnit<?> multiply(Unit<?> multiplier) {
     if (multiplier instanceof AbstractUnit) {
-      String unitName = UnitNameHelper.multiply(this, multiplier);
-      return ProductUnit.getProductInstance(this, (AbstractUnit<?>) multiplier).alternate(unitName);
+      AbstractUnit<?> that = (AbstractUnit<?>) multiplier;
+      return UnitAlgebra.apply(MULTIPLY, this, that, 0,
+          () -> ProductUnit.getProductInstance(this, that).alternate(UnitNameHelper.multiply(this, that)));
     }
     throw new UnsupportedOperationException(ERROR_NOT_COMPATIBLE);
   }
 
   @Override
   public AbstractUnit<?> inverse() {
-    return ProductUnit.getQuotientInstance(new ProductUnit<>(), this);
+    return ProductUnit.getQuotientInstance(ProductUnit.empty(), this);
   }
 
   @Override
@@ -162,32 +206,41 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
   @Override
   public AbstractUnit<?> divide(Unit<?> divisor) {
     if (divisor instanceof AbstractUnit) {
-      String unitName = UnitNameHelper.divide(this, divisor);
-      return ProductUnit.getQuotientInstance(this, (AbstractUnit<?>) divisor).alternate(unitName);
+      AbstractUnit<?> that = (AbstractUnit<?>) divisor;
+      return UnitAlgebra.apply(DIVIDE, this, that, 0,
+          () -> ProductUnit.getQuotientInstance(this, that).alternate(UnitNameHelper.divide(this, that)));
     }
     throw new UnsupportedOperationException(ERROR_NOT_COMPATIBLE);
   }
 
   @Override
   public AbstractUnit<?> root(int n) {
+    return UnitAlgebra.apply(ROOT, this, null, n, () -> evaluateRoot(n));
+  }
+
+  private AbstractUnit<?> evaluateRoot(int n) {
     if (n > 0) {
       return ProductUnit.getRootInstance(this, n);
     }
     if (n == 0) {
       throw new ArithmeticException("Root's order of zero");
     }
-    return new ProductUnit<>().divide(root(-n));
+    return ProductUnit.empty().divide(root(-n));
   }
 
   @Override
   public AbstractUnit<?> pow(int n) {
+    return UnitAlgebra.apply(POW, this, null, n, () -> evaluatePow(n));
+  }
+
+  private AbstractUnit<?> evaluatePow(int n) {
     if (n > 0) {
       return ProductUnit.getPowInstance(this, n).alternate(UnitNameHelper.pow(this, n));
     }
     if (n == 0) {
-      return new ProductUnit<>();
+      return ProductUnit.empty();
     }
-    return new ProductUnit<>().divide(pow(-n)).alternate(UnitNameHelper.pow(this, n));
+    return ProductUnit.empty().divide(pow(-n)).alternate(UnitNameHelper.pow(this, n));
   }
 
   @Override
@@ -197,7 +250,7 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
     if (converter.equals(IDENTITY)) {
       return systemUnit;
     }
-    return new TransformedUnit<>(this, converter);
+    return UnitTable.intern(new TransformedUnit<>(this, converter));
   }
 
   @Override
@@ -205,9 +258,11 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
     return name;
   }
 
+  @SuppressWarnings("unchecked")
   @Override
   public AbstractUnit<Q> prefix(Prefix prefix) {
-    return transform(fromFactor(prefix.getValue())).alternate(UnitNameHelper.prefix(prefix, this));
+    return (AbstractUnit<Q>) UnitAlgebra.apply(PREFIX, this, prefix, 0,
+        () -> transform(fromFactor(prefix.getValue())).alternate(UnitNameHelper.prefix(prefix, this)));
   }
 
   /**
@@ -224,7 +279,7 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
    * @return checks if unit is system
    */
   public boolean isSystemUnit() {
-    return equals(toSystemUnit());
+    return equals(getSystemUnit());
   }
 
   /**
@@ -233,4 +288,26 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements Unit<Q> {
    * @return system unit
    */
   protected abstract AbstractUnit<Q> toSystemUnit();
+
+  private static final class ConverterEntry {
+
+    private final Unit<?> target;
+    private final UnitConverter converter;
+
+    private ConverterEntry(Unit<?> target, UnitConverter converter) {
+      this.target = target;
+      this.converter = converter;
+    }
+  }
+
+  private static final class SymbolEntry {
+
+    private final Locale locale;
+    private final String symbol;
+
+    private SymbolEntry(Locale locale, String symbol) {
+      this.locale = locale;
+      this.symbol = symbol;
+    }
+  }
 }
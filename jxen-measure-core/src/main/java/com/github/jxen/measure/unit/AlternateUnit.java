@@ -1,6 +1,7 @@
 package com.github.jxen.measure.unit;
 
 import java.util.Map;
+import java.util.Objects;
 import javax.measure.Dimension;
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -9,10 +10,12 @@ import javax.measure.UnitConverter;
 final class AlternateUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
   private final AbstractUnit<Q> parent;
+  private final int hash;
 
   AlternateUnit(String name, AbstractUnit<Q> parent) {
     super(name);
     this.parent = parent instanceof AlternateUnit ? ((AlternateUnit<Q>) parent).parent : parent;
+    hash = Objects.hash(name, this.parent);
   }
 
   @Override
@@ -38,4 +41,24 @@ final class AlternateUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
   AbstractUnit<Q> getParent() {
     return parent;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null) {
+      return false;
+    }
+    if (getClass() != o.getClass()) {
+      return false;
+    }
+    AlternateUnit<?> that = (AlternateUnit<?>) o;
+    return hash == that.hash && Objects.equals(getName(), that.getName()) && parent.equals(that.parent);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
 }
@@ -2,8 +2,9 @@ package com.github.jxen.measure.unit;
 
 import com.github.jxen.measure.converter.Converters;
 import com.github.jxen.measure.dimension.Dimensions;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import javax.measure.Dimension;
 import javax.measure.Quantity;
@@ -22,10 +23,13 @@ import javax.measure.UnitConverter;
 final class BaseUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
   private transient Dimension dimension;
+  private final int hash;
+  private volatile Map<? extends Unit<?>, Integer> baseUnits;
 
   BaseUnit(String name, Dimension dimension) {
     super(name);
     this.dimension = Optional.ofNullable(dimension).orElse(Dimensions.DIMENSIONLESS);
+    hash = Objects.hash(name, this.dimension);
   }
 
   BaseUnit(String name) {
@@ -44,8 +48,11 @@ final class BaseUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
   @Override
   public Map<? extends Unit<?>, Integer> getBaseUnits() {
-    Map<Unit<Q>, Integer> map = new HashMap<>();
-    map.put(this, 1);
+    Map<? extends Unit<?>, Integer> map = baseUnits;
+    if (map == null) {
+      map = Collections.singletonMap(this, 1);
+      baseUnits = map;
+    }
     return map;
   }
 
@@ -58,4 +65,24 @@ final class BaseUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
   public AbstractUnit<Q> toSystemUnit() {
     return this;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null) {
+      return false;
+    }
+    if (getClass() != o.getClass()) {
+      return false;
+    }
+    BaseUnit<?> that = (BaseUnit<?>) o;
+    return hash == that.hash && Objects.equals(getName(), that.getName()) && dimension.equals(that.dimension);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
 }
@@ -0,0 +1,161 @@
+package com.github.jxen.measure.unit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.measure.IncommensurableException;
+import javax.measure.UnitConverter;
+
+/**
+ * {@code ConverterCache} class is bounded cache of converters between pairs of units.
+ * Incompatible pairs are cached as well, so repeated failed lookups do not evaluate dimensions again.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+public final class ConverterCache {
+
+  private static final int DEFAULT_CAPACITY = 4096;
+
+  private static final ConverterCache INSTANCE = new ConverterCache(DEFAULT_CAPACITY);
+
+  private final int capacity;
+  private final Map<Key, Object> cache = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  ConverterCache(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * Provides cache shared by all units.
+   *
+   * @return converter cache
+   */
+  public static ConverterCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Provides number of cache hits.
+   *
+   * @return number of hits
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Provides number of cache misses.
+   *
+   * @return number of misses
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Provides number of cached unit pairs.
+   *
+   * @return number of entries
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * Removes all cached entries and resets counters.
+   */
+  public void clear() {
+    cache.clear();
+    hits.reset();
+    misses.reset();
+  }
+
+  UnitConverter get(AbstractUnit<?> source, AbstractUnit<?> target) throws IncommensurableException {
+    Key key = new Key(source, target);
+    Object value = cache.get(key);
+    if (value == null) {
+      misses.increment();
+      value = compute(source, target);
+      evict();
+      Object previous = cache.putIfAbsent(key, value);
+      if (previous != null) {
+        value = previous;
+      }
+    } else {
+      hits.increment();
+    }
+    if (value instanceof Incompatible) {
+      throw new IncommensurableException(((Incompatible) value).message);
+    }
+    return (UnitConverter) value;
+  }
+
+  private static Object compute(AbstractUnit<?> source, AbstractUnit<?> target) {
+    try {
+      return AbstractUnit.computeConverter(source, target);
+    } catch (IncommensurableException e) {
+      return new Incompatible(e.getMessage());
+    }
+  }
+
+  private void evict() {
+    if (cache.size() < capacity) {
+      return;
+    }
+    // Drops about a quarter of entries, there is no need to keep access order for such a cheap recalculation.
+    int count = capacity / 4 + 1;
+    Iterator<Key> iterator = cache.keySet().iterator();
+    while (iterator.hasNext() && count > 0) {
+      iterator.next();
+      iterator.remove();
+      count--;
+    }
+  }
+
+  private static final class Key {
+
+    private final AbstractUnit<?> source;
+    private final AbstractUnit<?> target;
+    private final int hash;
+
+    private Key(AbstractUnit<?> source, AbstractUnit<?> target) {
+      this.source = source;
+      this.target = target;
+      hash = 31 * source.hashCode() + target.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return source.equals(that.source) && target.equals(that.target);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  private static final class Incompatible {
+
+    private final String message;
+
+    private Incompatible(String message) {
+      this.message = message;
+    }
+  }
+}
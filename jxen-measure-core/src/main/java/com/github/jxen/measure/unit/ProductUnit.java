@@ -2,8 +2,10 @@ package com.github.jxen.measure.unit;
 
 import com.github.jxen.measure.converter.Converters;
 import com.github.jxen.measure.dimension.Dimensions;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import javax.measure.Dimension;
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -21,14 +23,29 @@ import javax.measure.UnitConverter;
 final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
   private final Element[] elements;
-
-  ProductUnit() {
-    this(new Element[0]);
-  }
+  private final int hash;
+  private volatile Map<Unit<?>, Integer> baseUnits;
+  private volatile UnitConverter systemConverter;
+  private volatile Dimension dimension;
 
   private ProductUnit(Element[] elements) {
     super("");
     this.elements = elements.clone();
+    int h = 0;
+    for (Element e : this.elements) {
+      h += e.hashCode();
+    }
+    hash = h;
+  }
+
+  /**
+   * Provides canonical dimensionless product unit.
+   *
+   * @param <Q> quantity type
+   * @return empty product unit
+   */
+  static <Q extends Quantity<Q>> AbstractUnit<Q> empty() {
+    return UnitTable.intern(new ProductUnit<Q>(new Element[0]));
   }
 
   static AbstractUnit<?> getProductInstance(AbstractUnit<?> left, AbstractUnit<?> right) {
@@ -71,9 +88,14 @@ final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
   @Override
   public Map<Unit<?>, Integer> getBaseUnits() {
-    Map<Unit<?>, Integer> units = new HashMap<>();
-    for (Element e : elements) {
-      units.put(e.unit, e.pow);
+    Map<Unit<?>, Integer> units = baseUnits;
+    if (units == null) {
+      Map<Unit<?>, Integer> map = new HashMap<>();
+      for (Element e : elements) {
+        map.put(e.unit, e.pow);
+      }
+      units = Collections.unmodifiableMap(map);
+      baseUnits = units;
     }
     return units;
   }
@@ -89,7 +111,7 @@ final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
   @SuppressWarnings("unchecked")
   @Override
   public AbstractUnit<Q> toSystemUnit() {
-    Unit<?> systemUnit = new ProductUnit<>();
+    Unit<?> systemUnit = empty();
     for (Element element : elements) {
       Unit<?> unit = element.unit.getSystemUnit();
       unit = unit.pow(element.pow);
@@ -101,39 +123,46 @@ final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
   @Override
   public UnitConverter getSystemConverter() {
+    UnitConverter converter = systemConverter;
+    if (converter == null) {
+      converter = evaluateSystemConverter();
+      systemConverter = converter;
+    }
+    return converter;
+  }
+
+  private UnitConverter evaluateSystemConverter() {
     UnitConverter converter = Converters.IDENTITY;
     for (Element e : elements) {
       UnitConverter c = e.unit.getSystemConverter();
       if (!c.isLinear()) {
         throw new UnsupportedOperationException(e.unit + " is non-linear, cannot convert");
       }
-      if (e.root != 1) {
-        throw new UnsupportedOperationException(e.unit + " holds a base unit with fractional exponent");
-      }
-      int pow = e.pow;
-      // Negative power.
-      if (pow < 0) {
-        pow = -pow;
-        c = c.inverse();
-      }
-      for (int j = 0; j < pow; j++) {
-        converter = converter.concatenate(c);
-      }
+      converter = converter.concatenate(Converters.root(Converters.pow(c, e.pow), e.root));
     }
     return converter;
   }
 
   @Override
   public Dimension getDimension() {
-    Dimension dimension = Dimensions.DIMENSIONLESS;
+    Dimension d = dimension;
+    if (d == null) {
+      d = evaluateDimension();
+      dimension = d;
+    }
+    return d;
+  }
+
+  private Dimension evaluateDimension() {
+    Dimension result = Dimensions.DIMENSIONLESS;
     for (Element e : elements) {
       Unit<?> unit = e.unit;
       if (unit.getDimension() != null) {
         Dimension d = unit.getDimension().pow(e.pow).root(e.root);
-        dimension = dimension.multiply(d);
+        result = result.multiply(d);
       }
     }
-    return dimension;
+    return result;
   }
 
   private static AbstractUnit<?> getUnitInstance(Element[] leftElems, Element[] rightElems) {
@@ -158,14 +187,14 @@ final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
     // Returns or creates instance.
     if (resultIndex == 0) {
-      return new ProductUnit<>();
+      return empty();
     }
     if (resultIndex == 1 && result[0].pow == result[0].root) {
       return result[0].unit;
     }
     Element[] elems = new Element[resultIndex];
     System.arraycopy(result, 0, elems, 0, resultIndex);
-    return new ProductUnit<>(elems);
+    return UnitTable.intern(new ProductUnit<>(elems));
   }
 
   private static int processLeft(Element[] leftElems, Element[] rightElems, Element[] result) {
@@ -194,6 +223,44 @@ final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
     return resultIndex;
   }
 
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null) {
+      return false;
+    }
+    if (getClass() != o.getClass()) {
+      return false;
+    }
+    ProductUnit<?> that = (ProductUnit<?>) o;
+    if (hash != that.hash || elements.length != that.elements.length) {
+      return false;
+    }
+    // Each unit appears only once, so order of elements does not matter.
+    for (Element e : elements) {
+      if (!contains(that.elements, e)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  private static boolean contains(Element[] elements, Element element) {
+    for (Element e : elements) {
+      if (e.equals(element)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private static int gcd(int m, int n) {
     return n == 0 ? m : gcd(n, m % n);
   }
@@ -219,5 +286,22 @@ final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
       this.pow = pow;
       this.root = root;
     }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Element)) {
+        return false;
+      }
+      Element that = (Element) o;
+      return pow == that.pow && root == that.root && unit.equals(that.unit);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(unit, pow, root);
+    }
   }
 }
@@ -1,6 +1,7 @@
 package com.github.jxen.measure.unit;
 
 import java.util.Map;
+import java.util.Objects;
 import javax.measure.Dimension;
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -19,11 +20,14 @@ final class TransformedUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
   private final AbstractUnit<Q> parent;
   private final UnitConverter converter;
+  private final int hash;
+  private volatile UnitConverter systemConverter;
 
   TransformedUnit(AbstractUnit<Q> parent, UnitConverter converter) {
     super(null);
     this.parent = parent;
     this.converter = converter;
+    hash = Objects.hash(parent, converter);
   }
 
   @Override
@@ -33,7 +37,12 @@ final class TransformedUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
   @Override
   public UnitConverter getSystemConverter() {
-    return parent.getSystemConverter().concatenate(converter);
+    UnitConverter c = systemConverter;
+    if (c == null) {
+      c = parent.getSystemConverter().concatenate(converter);
+      systemConverter = c;
+    }
+    return c;
   }
 
   @Override
@@ -54,4 +63,24 @@ final class TransformedUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
   public UnitConverter getConverter() {
     return converter;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null) {
+      return false;
+    }
+    if (getClass() != o.getClass()) {
+      return false;
+    }
+    TransformedUnit<?> that = (TransformedUnit<?>) o;
+    return hash == that.hash && parent.equals(that.parent) && converter.equals(that.converter);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
 }
@@ -0,0 +1,180 @@
+package com.github.jxen.measure.unit;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@code UnitAlgebra} class memoizes results of operations on units.
+ * Units are canonical instances, so operands are compared by identity.
+ * Operands and results are held weakly, like units of {@link UnitTable}, so memoized operation does not keep its
+ * units alive. Entries of collected units are purged on the next operation.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+final class UnitAlgebra {
+
+  private static final int CAPACITY = 4096;
+
+  private static final Map<Key, Ref> RESULTS = new ConcurrentHashMap<>();
+  private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+  private UnitAlgebra() {
+  }
+
+  /**
+   * Provides memoized result of operation or evaluates it.
+   *
+   * @param operation operation
+   * @param unit      unit
+   * @param operand   other unit or prefix, {@code null} for operations with integer operand
+   * @param n         integer operand
+   * @param supplier  evaluates result of operation
+   * @return result of operation
+   */
+  static AbstractUnit<?> apply(Operation operation, AbstractUnit<?> unit, Object operand, int n,
+      Supplier<AbstractUnit<?>> supplier) {
+    purge();
+    Key key = new Key(operation, unit, operand, n);
+    Ref ref = RESULTS.get(key);
+    AbstractUnit<?> result = ref == null ? null : (AbstractUnit<?>) ref.get();
+    if (result != null) {
+      return result;
+    }
+    result = supplier.get();
+    evict();
+    Key weak = new Key(key);
+    Ref value = new Ref(result, weak);
+    while (true) {
+      Ref previous = RESULTS.putIfAbsent(weak, value);
+      if (previous == null) {
+        return result;
+      }
+      Object existing = previous.get();
+      if (existing != null) {
+        return (AbstractUnit<?>) existing;
+      }
+      // Previous result has just been collected, it is replaced.
+      if (RESULTS.replace(weak, previous, value)) {
+        return result;
+      }
+    }
+  }
+
+  static void clear() {
+    RESULTS.clear();
+  }
+
+  private static void purge() {
+    Reference<?> reference = QUEUE.poll();
+    while (reference != null) {
+      Ref ref = (Ref) reference;
+      if (ref.key.refers(ref)) {
+        // Key with collected operand is equal only to itself.
+        RESULTS.remove(ref.key);
+      } else {
+        RESULTS.remove(ref.key, ref);
+      }
+      reference = QUEUE.poll();
+    }
+  }
+
+  private static void evict() {
+    if (RESULTS.size() < CAPACITY) {
+      return;
+    }
+    int count = CAPACITY / 4 + 1;
+    Iterator<Key> iterator = RESULTS.keySet().iterator();
+    while (iterator.hasNext() && count > 0) {
+      iterator.next();
+      iterator.remove();
+      count--;
+    }
+  }
+
+  enum Operation {
+    MULTIPLY,
+    DIVIDE,
+    POW,
+    ROOT,
+    PREFIX
+  }
+
+  /**
+   * {@code Key} class identifies operation by its operands. Lookup key refers operands directly, stored key refers
+   * them weakly.
+   */
+  private static final class Key {
+
+    private final Operation operation;
+    private final Object unit;
+    private final Object operand;
+    private final int n;
+    private final int hash;
+
+    private Key(Operation operation, AbstractUnit<?> unit, Object operand, int n) {
+      this.operation = operation;
+      this.unit = unit;
+      this.operand = operand;
+      this.n = n;
+      hash = (31 * (31 * operation.ordinal() + System.identityHashCode(unit)) + System.identityHashCode(operand)) * 31
+          + n;
+    }
+
+    private Key(Key key) {
+      operation = key.operation;
+      unit = new Ref(key.unit, this);
+      operand = key.operand == null ? null : new Ref(key.operand, this);
+      n = key.n;
+      hash = key.hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      if (operation != that.operation || n != that.n || hash != that.hash) {
+        return false;
+      }
+      Object u = get(unit);
+      return u != null && u == get(that.unit) && get(operand) == get(that.operand);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    boolean refers(Ref ref) {
+      return unit == ref || operand == ref;
+    }
+
+    private static Object get(Object value) {
+      return value instanceof Ref ? ((Ref) value).get() : value;
+    }
+  }
+
+  /**
+   * {@code Ref} class is weak reference to operand or result of operation, which knows its key.
+   */
+  private static final class Ref extends WeakReference<Object> {
+
+    private final Key key;
+
+    private Ref(Object referent, Key key) {
+      super(referent, QUEUE);
+      this.key = key;
+    }
+  }
+}
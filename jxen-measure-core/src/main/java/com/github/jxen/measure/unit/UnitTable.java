@@ -0,0 +1,93 @@
+package com.github.jxen.measure.unit;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code UnitTable} class keeps canonical instances of units.
+ * Units are held weakly, so canonical instance lives as long as anyone refers to it.
+ * The table is concurrent map of weak references, entries of collected units are purged on the next interning.
+ *
+ * @author Denis Murashev
+ *
+ * @since Measure 0.9
+ */
+final class UnitTable {
+
+  private static final Map<Key, Key> UNITS = new ConcurrentHashMap<>();
+  private static final ReferenceQueue<AbstractUnit<?>> QUEUE = new ReferenceQueue<>();
+
+  private UnitTable() {
+  }
+
+  /**
+   * Provides canonical instance structurally equal to given unit.
+   *
+   * @param unit unit
+   * @param <U> unit type
+   * @return canonical instance
+   */
+  @SuppressWarnings("unchecked")
+  static <U extends AbstractUnit<?>> U intern(U unit) {
+    purge();
+    Key key = new Key(unit, QUEUE);
+    while (true) {
+      Key existing = UNITS.putIfAbsent(key, key);
+      if (existing == null) {
+        return unit;
+      }
+      AbstractUnit<?> canonical = existing.get();
+      if (canonical != null) {
+        return (U) canonical;
+      }
+      // Canonical instance has just been collected, its entry is replaced.
+      UNITS.remove(existing, existing);
+    }
+  }
+
+  private static void purge() {
+    Reference<? extends AbstractUnit<?>> reference = QUEUE.poll();
+    while (reference != null) {
+      UNITS.remove(reference, reference);
+      reference = QUEUE.poll();
+    }
+  }
+
+  /**
+   * {@code Key} class is weak reference to unit, equal to references of structurally equal units.
+   * Cleared reference is equal only to itself.
+   */
+  private static final class Key extends WeakReference<AbstractUnit<?>> {
+
+    private final int hash;
+
+    private Key(AbstractUnit<?> unit, ReferenceQueue<AbstractUnit<?>> queue) {
+      super(unit, queue);
+      hash = unit.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      if (hash != that.hash) {
+        return false;
+      }
+      AbstractUnit<?> unit = get();
+      return unit != null && unit.equals(that.get());
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
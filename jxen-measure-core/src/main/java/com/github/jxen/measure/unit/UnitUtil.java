@@ -39,7 +39,7 @@ public final class UnitUtil {
    * @return added unit
    */
   public static <Q extends Quantity<Q>> AbstractUnit<Q> unit(String name, Dimension dimension, Class<Q> type) {
-    return unit(new BaseUnit<>(name, dimension), type);
+    return unit(UnitTable.intern(new BaseUnit<Q>(name, dimension)), type);
   }
 
   /**
@@ -54,6 +54,6 @@ public final class UnitUtil {
    */
   public static <Q extends Quantity<Q>> AbstractUnit<Q> unit(String name, AbstractUnit<Q> unit, Number factor,
       Class<Q> type) {
-    return unit(new TransformedUnit<>(unit, Converters.fromFactor(factor)).alternate(name), type);
+    return unit(UnitTable.intern(new TransformedUnit<>(unit, Converters.fromFactor(factor))).alternate(name), type);
   }
 }
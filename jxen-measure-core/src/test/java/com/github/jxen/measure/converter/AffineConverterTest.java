@@ -0,0 +1,113 @@
+package com.github.jxen.measure.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.jxen.math.rational.BigRational;
+import com.github.jxen.math.rational.Rational;
+import java.util.Arrays;
+import java.util.List;
+import javax.measure.UnitConverter;
+import org.junit.jupiter.api.Test;
+
+class AffineConverterTest {
+
+  @Test
+  void testConcatenateOffsetAndFactor() {
+    UnitConverter converter = Converters.fromOffset(1).concatenate(Converters.fromFactor(2));
+    assertTrue(converter instanceof AffineConverter);
+    assertEquals(3.0, converter.convert(1.0));
+  }
+
+  @Test
+  void testOfKeepsFactorCloseToOne() {
+    BigRational tiny = new BigRational(1, Long.MAX_VALUE).multiply(new BigRational(1, Long.MAX_VALUE));
+    UnitConverter converter = AffineConverter.of(AffineConverter.sum(BigRational.ONE, tiny), AffineConverter.ZERO);
+    assertTrue(converter instanceof MultiplyConverter);
+    assertEquals(AffineConverter.sum(BigRational.ONE, tiny), BigRational.valueOf(converter.convert(BigRational.ONE)));
+  }
+
+  @Test
+  void testOfKeepsTinyOffset() {
+    BigRational tiny = new BigRational(1, Long.MAX_VALUE).multiply(new BigRational(1, Long.MAX_VALUE));
+    UnitConverter converter = AffineConverter.of(BigRational.ONE, tiny.multiply(tiny));
+    assertTrue(converter instanceof AddConverter);
+    assertFalse(converter.isIdentity());
+  }
+
+  @Test
+  void testConcatenateFactorAndOffset() {
+    UnitConverter converter = Converters.fromFactor(2).concatenate(Converters.fromOffset(1));
+    assertTrue(converter instanceof AffineConverter);
+    assertEquals(4.0, converter.convert(1.0));
+  }
+
+  @Test
+  void testConcatenateChain() {
+    UnitConverter converter = Converters.fromOffset(1)
+        .concatenate(Converters.fromFactor(2))
+        .concatenate(Converters.fromOffset(3))
+        .concatenate(Converters.fromFactor(5));
+    assertTrue(converter instanceof AffineConverter);
+    assertEquals(2 * (5 * 1.0 + 3) + 1, converter.convert(1.0));
+  }
+
+  @Test
+  void testConcatenateToFactor() {
+    UnitConverter converter = Converters.fromOffset(1)
+        .concatenate(Converters.fromFactor(2))
+        .concatenate(Converters.fromOffset(-0.5));
+    assertEquals(Converters.fromFactor(2), converter);
+  }
+
+  @Test
+  void testConcatenateToIdentity() {
+    UnitConverter converter = Converters.fromOffset(1).concatenate(Converters.fromFactor(2));
+    assertEquals(Converters.IDENTITY, converter.concatenate(converter.inverse()));
+  }
+
+  @Test
+  void testLinear() {
+    assertFalse(Converters.fromOffset(1).concatenate(Converters.fromFactor(2)).isLinear());
+  }
+
+  @Test
+  void testInverse() {
+    UnitConverter converter = Converters.fromOffset(1).concatenate(Converters.fromFactor(2)).inverse();
+    assertEquals(1.0, converter.convert(3.0));
+  }
+
+  @Test
+  void testConvertNumber() {
+    UnitConverter converter = Converters.fromOffset(1).concatenate(Converters.fromFactor(2));
+    assertEquals(new Rational(3), converter.convert(Rational.ONE));
+  }
+
+  @Test
+  void testConversionSteps() {
+    UnitConverter converter = Converters.fromFactor(2).concatenate(Converters.fromOffset(1));
+    List<? extends UnitConverter> steps = converter.getConversionSteps();
+    assertEquals(Arrays.asList(Converters.fromOffset(2), Converters.fromFactor(2)), steps);
+  }
+
+  @Test
+  void testToString() {
+    assertEquals("AffineConverter(2,1)", Converters.fromOffset(1).concatenate(Converters.fromFactor(2)).toString());
+  }
+
+  @Test
+  void testEqualsAndHashCode() {
+    UnitConverter converter1 = Converters.fromOffset(1).concatenate(Converters.fromFactor(2));
+    UnitConverter converter2 = Converters.fromFactor(2).concatenate(Converters.fromOffset(0.5));
+    assertEquals(converter1, converter2);
+    assertEquals(converter1.hashCode(), converter2.hashCode());
+  }
+
+  @Test
+  void testNotEquals() {
+    assertNotEquals(Converters.fromOffset(1).concatenate(Converters.fromFactor(2)),
+        Converters.fromOffset(2).concatenate(Converters.fromFactor(2)));
+  }
+}
@@ -0,0 +1,87 @@
+package com.github.jxen.measure.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import javax.measure.UnitConverter;
+import org.junit.jupiter.api.Test;
+
+class BulkConverterTest {
+
+  private static final double[] VALUES = {1.0, 2.0, 3.0, 4.0};
+
+  @Test
+  void testIdentity() {
+    double[] dst = new double[4];
+    Converters.convert(Converters.IDENTITY, VALUES, 0, dst, 0, 4);
+    assertArrayEquals(VALUES, dst);
+  }
+
+  @Test
+  void testMultiply() {
+    double[] dst = new double[4];
+    Converters.convert(Converters.fromFactor(2), VALUES, 0, dst, 0, 4);
+    assertArrayEquals(new double[] {2.0, 4.0, 6.0, 8.0}, dst);
+  }
+
+  @Test
+  void testAdd() {
+    double[] dst = new double[4];
+    Converters.convert(Converters.fromOffset(1), VALUES, 1, dst, 0, 3);
+    assertArrayEquals(new double[] {3.0, 4.0, 5.0, 0.0}, dst);
+  }
+
+  @Test
+  void testAffine() {
+    double[] values = VALUES.clone();
+    ((BulkConverter) Converters.fromOffset(1).concatenate(Converters.fromFactor(2))).convert(values);
+    assertArrayEquals(new double[] {3.0, 5.0, 7.0, 9.0}, values);
+  }
+
+  @Test
+  void testCombine() {
+    double[] dst = new double[4];
+    UnitConverter converter = new CombineConverter(Converters.fromOffset(1), Converters.fromFactor(2));
+    Converters.convert(converter, VALUES, 0, dst, 0, 4);
+    assertArrayEquals(new double[] {3.0, 5.0, 7.0, 9.0}, dst);
+  }
+
+  @Test
+  void testOutOfBounds() {
+    double[] dst = new double[2];
+    assertThrows(IndexOutOfBoundsException.class,
+        () -> Converters.convert(Converters.fromFactor(2), VALUES, 0, dst, 0, 4));
+  }
+
+  @Test
+  void testHeapBuffer() {
+    DoubleBuffer src = DoubleBuffer.wrap(VALUES);
+    DoubleBuffer dst = DoubleBuffer.allocate(4);
+    ((BulkConverter) Converters.fromFactor(2)).convert(src, dst);
+    assertEquals(4, src.position());
+    assertArrayEquals(new double[] {2.0, 4.0, 6.0, 8.0}, dst.array());
+  }
+
+  @Test
+  void testDirectBuffer() {
+    DoubleBuffer src = DoubleBuffer.wrap(VALUES);
+    DoubleBuffer dst = ByteBuffer.allocateDirect(4 * Double.BYTES).asDoubleBuffer();
+    ((BulkConverter) Converters.fromOffset(1)).convert(src, dst);
+    dst.flip();
+    double[] result = new double[4];
+    dst.get(result);
+    assertArrayEquals(new double[] {2.0, 3.0, 4.0, 5.0}, result);
+  }
+
+  @Test
+  void testBufferOverflow() {
+    DoubleBuffer src = DoubleBuffer.wrap(VALUES);
+    DoubleBuffer dst = DoubleBuffer.allocate(2);
+    BulkConverter converter = (BulkConverter) Converters.fromFactor(2);
+    assertThrows(BufferOverflowException.class, () -> converter.convert(src, dst));
+  }
+}
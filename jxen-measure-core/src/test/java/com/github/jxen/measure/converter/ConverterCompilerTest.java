@@ -0,0 +1,115 @@
+package com.github.jxen.measure.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+import javax.measure.UnitConverter;
+import org.junit.jupiter.api.Test;
+
+class ConverterCompilerTest {
+
+  @Test
+  void testIdentity() {
+    assertEquals(1.0, Converters.compile(Converters.IDENTITY).applyAsDouble(1.0));
+  }
+
+  @Test
+  void testMultiply() {
+    assertEquals(2.0, Converters.compile(Converters.fromFactor(2)).applyAsDouble(1.0));
+  }
+
+  @Test
+  void testAdd() {
+    assertEquals(2.0, Converters.compile(Converters.fromOffset(1)).applyAsDouble(1.0));
+  }
+
+  @Test
+  void testAffine() {
+    UnitConverter converter = Converters.fromOffset(1).concatenate(Converters.fromFactor(2));
+    assertEquals(3.0, Converters.compile(converter).applyAsDouble(1.0));
+  }
+
+  @Test
+  void testCombine() {
+    UnitConverter converter = new CombineConverter(Converters.fromFactor(2),
+        new CombineConverter(new SquareConverter(), Converters.fromOffset(1)));
+    DoubleUnaryOperator operator = Converters.compile(converter);
+    assertEquals(converter.convert(3.0), operator.applyAsDouble(3.0));
+    assertEquals(32.0, operator.applyAsDouble(3.0));
+  }
+
+  @Test
+  void testOwnClassPerChain() {
+    DoubleUnaryOperator first = Converters.compile(
+        new CombineConverter(Converters.fromFactor(2), new SquareConverter()));
+    DoubleUnaryOperator second = Converters.compile(
+        new CombineConverter(Converters.fromFactor(3), new SquareConverter()));
+    assertNotSame(first.getClass(), second.getClass());
+    assertEquals(18.0, first.applyAsDouble(3.0));
+    assertEquals(27.0, second.applyAsDouble(3.0));
+  }
+
+  @Test
+  void testFallback() {
+    UnitConverter converter = new SquareConverter() {
+      @Override
+      public List<? extends UnitConverter> getConversionSteps() {
+        throw new UnsupportedOperationException();
+      }
+    };
+    assertEquals(9.0, Converters.compile(converter).applyAsDouble(3.0));
+  }
+
+  @Test
+  void testNoFallbackOnFailure() {
+    UnitConverter converter = new SquareConverter() {
+      @Override
+      public List<? extends UnitConverter> getConversionSteps() {
+        throw new IllegalStateException();
+      }
+    };
+    assertThrows(IllegalStateException.class, () -> Converters.compile(converter));
+  }
+
+  private static class SquareConverter implements UnitConverter {
+
+    @Override
+    public boolean isIdentity() {
+      return false;
+    }
+
+    @Override
+    public boolean isLinear() {
+      return false;
+    }
+
+    @Override
+    public UnitConverter inverse() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Number convert(Number value) {
+      return convert(value.doubleValue());
+    }
+
+    @Override
+    public double convert(double value) {
+      return value * value;
+    }
+
+    @Override
+    public UnitConverter concatenate(UnitConverter converter) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<? extends UnitConverter> getConversionSteps() {
+      return Collections.singletonList(this);
+    }
+  }
+}
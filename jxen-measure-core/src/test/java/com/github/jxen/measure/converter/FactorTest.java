@@ -0,0 +1,87 @@
+package com.github.jxen.measure.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.jxen.math.rational.BigRational;
+import com.github.jxen.math.rational.Rational;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class FactorTest {
+
+  @Test
+  void testInteger() {
+    Factor factor = Factor.of(1000);
+    assertTrue(factor.isSmall());
+    assertEquals(1000, factor.getNumerator());
+    assertEquals(1, factor.getDenominator());
+  }
+
+  @Test
+  void testRational() {
+    Factor factor = Factor.of(new Rational(1, 60));
+    assertTrue(factor.isSmall());
+    assertEquals(1, factor.getNumerator());
+    assertEquals(60, factor.getDenominator());
+    assertEquals(1.0 / 60, factor.doubleValue());
+  }
+
+  @Test
+  void testDecimal() {
+    Factor factor = Factor.of(new BigDecimal("0.3048"));
+    assertTrue(factor.isSmall());
+    assertEquals(381, factor.getNumerator());
+    assertEquals(1250, factor.getDenominator());
+  }
+
+  @Test
+  void testMultiply() {
+    assertEquals(Factor.of(50, 3), Factor.of(1000).multiply(Factor.of(1, 60)));
+  }
+
+  @Test
+  void testReciprocal() {
+    assertEquals(Factor.of(-1, 2), Factor.of(-2).reciprocal());
+  }
+
+  @Test
+  void testOverflow() {
+    Factor factor = Factor.of(Long.MAX_VALUE).multiply(Factor.of(Long.MAX_VALUE));
+    assertFalse(factor.isSmall());
+    assertEquals(BigRational.valueOf(Long.MAX_VALUE).multiply(Long.MAX_VALUE), factor.toBigRational());
+    assertEquals(Factor.of(Long.MAX_VALUE), factor.multiply(Factor.of(1, Long.MAX_VALUE)));
+  }
+
+  @Test
+  void testPow() {
+    assertEquals(Factor.of(1, 1000000000), Factor.of(1, 1000).pow(3));
+  }
+
+  @Test
+  void testBigToString() {
+    assertEquals(BigRational.valueOf(2).toString(), Factor.of(BigRational.valueOf(2)).toString());
+  }
+
+  @Test
+  void testSplitTen() {
+    Factor factor = Factor.of(new BigDecimal("25.4"));
+    assertEquals(-1, factor.tenExponent());
+    assertEquals(Factor.of(254), factor.tenRemainder());
+  }
+
+  @Test
+  void testSplitTenPrefix() {
+    Factor factor = Factor.of(1, 1000000);
+    assertEquals(-6, factor.tenExponent());
+    assertEquals(Factor.ONE, factor.tenRemainder());
+  }
+
+  @Test
+  void testSplitTenRational() {
+    Factor factor = Factor.of(1, 960);
+    assertEquals(-6, factor.tenExponent());
+    assertEquals(Factor.of(3125, 3), factor.tenRemainder());
+  }
+}
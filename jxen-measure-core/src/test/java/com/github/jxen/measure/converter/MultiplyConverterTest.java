@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.github.jxen.math.rational.BigRational;
 import com.github.jxen.math.rational.Rational;
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -52,6 +53,24 @@ class MultiplyConverterTest {
     assertEquals(BigDecimal.valueOf(2.0), converter.convert(BigDecimal.ONE));
   }
 
+  @Test
+  void testConvertBigDecimalPowerOfTen() {
+    UnitConverter converter = Converters.fromFactor(new BigRational(1, 1000));
+    assertEquals(new BigDecimal("1.234"), converter.convert(new BigDecimal("1234")));
+  }
+
+  @Test
+  void testConvertBigDecimalMixed() {
+    UnitConverter converter = Converters.fromFactor(new BigDecimal("25.4"));
+    assertEquals(new BigDecimal("50.8"), converter.convert(new BigDecimal("2")));
+  }
+
+  @Test
+  void testConvertBigDecimalRationalRemainder() {
+    UnitConverter converter = Converters.fromFactor(new BigRational(1, 30));
+    assertEquals(0, BigDecimal.ONE.compareTo((BigDecimal) converter.convert(new BigDecimal("30"))));
+  }
+
   @Test
   void testConvertDouble() {
     UnitConverter converter = Converters.fromFactor(2);
@@ -82,6 +101,48 @@ class MultiplyConverterTest {
     assertEquals(4.0, converter.convert(1.0));
   }
 
+  @Test
+  void testPow() {
+    assertEquals(Converters.fromFactor(1000000000), Converters.pow(Converters.fromFactor(1000), 3));
+  }
+
+  @Test
+  void testPowNegative() {
+    assertEquals(Converters.fromFactor(new BigRational(1, 1000000)), Converters.pow(Converters.fromFactor(1000), -2));
+  }
+
+  @Test
+  void testPowZero() {
+    assertEquals(Converters.IDENTITY, Converters.pow(Converters.fromFactor(1000), 0));
+  }
+
+  @Test
+  void testRootExact() {
+    assertEquals(Converters.fromFactor(1000), Converters.root(Converters.fromFactor(1000000), 2));
+    assertEquals(Converters.fromFactor(new BigRational(1, 1000)),
+        Converters.root(Converters.fromFactor(new BigRational(1, 1000000)), 2));
+  }
+
+  @Test
+  void testRootInexact() {
+    assertEquals(Math.sqrt(1000), Converters.root(Converters.fromFactor(1000), 2).convert(1.0), 1e-12);
+  }
+
+  @Test
+  void testRootNegative() {
+    assertEquals(Converters.fromFactor(new BigRational(1, 10)), Converters.root(Converters.fromFactor(100), -2));
+  }
+
+  @Test
+  void testRootZero() {
+    assertThrows(ArithmeticException.class, () -> Converters.root(Converters.fromFactor(100), 0));
+  }
+
+  @Test
+  void testPowNonLinear() {
+    assertThrows(UnsupportedOperationException.class, () -> Converters.pow(Converters.fromOffset(1), 2));
+  }
+
   @Test
   void testConversionSteps() {
     List<? extends UnitConverter> steps = Converters.fromFactor(2).getConversionSteps();
@@ -4,6 +4,7 @@ import static com.github.jxen.measure.dimension.Dimensions.LENGTH;
 import static com.github.jxen.measure.dimension.Dimensions.TIME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Collections;
@@ -35,12 +36,55 @@ class DimensionTest {
 
   @Test
   void testDimensionRootCase1() {
-    assertThrows(ArithmeticException.class, () -> LENGTH.root(2));
+    assertThrows(ArithmeticException.class, () -> LENGTH.root(2).getBaseDimensions());
   }
 
   @Test
   void testDimensionRootCase2() {
-    assertThrows(ArithmeticException.class, () -> LENGTH.pow(2).root(3));
+    assertThrows(ArithmeticException.class, () -> LENGTH.pow(2).root(3).getBaseDimensions());
+  }
+
+  @Test
+  void testDimensionRootCase3() {
+    assertEquals(LENGTH.divide(TIME), LENGTH.pow(2).divide(TIME.pow(2)).root(2));
+  }
+
+  @Test
+  void testDimensionRootCase4() {
+    assertEquals(LENGTH.pow(3), LENGTH.root(2).multiply(LENGTH.pow(5).root(2)));
+  }
+
+  @Test
+  void testDimensionRootZero() {
+    assertThrows(ArithmeticException.class, () -> LENGTH.root(0));
+  }
+
+  @Test
+  void testInterned() {
+    assertSame(LENGTH.divide(TIME), LENGTH.multiply(TIME.pow(-1)));
+  }
+
+  @Test
+  void testEqualsBase() {
+    assertEquals(LENGTH.pow(2).root(2), LENGTH);
+  }
+
+  @Test
+  void testCanonicalBase() {
+    assertSame(LENGTH, LENGTH.pow(3).divide(LENGTH.pow(2)));
+  }
+
+  @Test
+  void testSymmetricEquals() {
+    Dimension dimension = LENGTH.multiply(TIME).divide(TIME);
+    assertEquals(LENGTH, dimension);
+    assertEquals(dimension, LENGTH);
+    assertEquals(LENGTH.hashCode(), dimension.hashCode());
+  }
+
+  @Test
+  void testPowOverflow() {
+    assertThrows(ArithmeticException.class, () -> LENGTH.pow(200));
   }
 
   @Test
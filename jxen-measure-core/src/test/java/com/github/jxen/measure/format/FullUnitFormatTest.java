@@ -7,8 +7,11 @@ import static com.github.jxen.measure.unit.MetricPrefix.milli;
 import static com.github.jxen.measure.system.MetricUnits.METER;
 import static com.github.jxen.measure.system.MetricUnits.SECOND;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.Locale;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -63,4 +66,18 @@ class FullUnitFormatTest {
   void testFormatFraction() {
     assertEquals("?/?", new FullUnitFormat().format(METER.divide(METER).divide(METER)));
   }
+
+  @Test
+  void testFormatLocale() {
+    assertEquals("kilometer", new FullUnitFormat().format(kilo(METER), Locale.GERMANY));
+  }
+
+  @Test
+  void testFormatConcurrently() {
+    FullUnitFormat format = new FullUnitFormat();
+    List<Locale> locales = List.of(Locale.ROOT, Locale.GERMANY, Locale.FRANCE, Locale.JAPAN);
+    assertTrue(IntStream.range(0, 1000).parallel()
+        .mapToObj(i -> format.format(METER, locales.get(i % locales.size())))
+        .allMatch("meter"::equals));
+  }
 }
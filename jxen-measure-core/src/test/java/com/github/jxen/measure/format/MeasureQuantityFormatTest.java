@@ -1,6 +1,7 @@
 package com.github.jxen.measure.format;
 
 import static com.github.jxen.measure.system.MetricUnits.METER;
+import static com.github.jxen.measure.system.MetricUnits.SECOND;
 import static com.github.jxen.measure.unit.MetricPrefix.centi;
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -13,15 +14,19 @@ import com.github.jxen.measure.quantity.impl.LengthAmount;
 import com.github.jxen.measure.quantity.impl.Quantities;
 import com.github.jxen.measure.quantity.impl.QuantityDecomposer;
 import com.github.jxen.measure.system.NonSiUnits;
+import com.github.jxen.measure.system.TimeUnits;
 import com.github.jxen.measure.unit.MetricPrefix;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.text.ParsePosition;
 import java.util.List;
 import java.util.Locale;
 import javax.measure.MeasurementException;
 import javax.measure.Quantity;
 import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
 import javax.measure.format.QuantityFormat;
 import javax.measure.quantity.Length;
 import org.junit.jupiter.api.BeforeEach;
@@ -70,6 +75,12 @@ class MeasureQuantityFormatTest {
     assertEquals("1\u202Fdecimeter", format.format(new LengthAmount(Rational.ONE, MetricPrefix.deci(METER))));
   }
 
+  @Test
+  void testFormatLocale() {
+    MeasureQuantityFormat format = new MeasureQuantityFormat(new DecimalFormat("0.#"), new FullUnitFormat());
+    assertEquals("1\u202Fmeter", format.format(new LengthAmount(1, METER), Locale.ROOT));
+  }
+
   @Test
   void testFormatList() {
     MeasureQuantityFormat format = new MeasureQuantityFormat(new MeasureUnitFormat());
@@ -84,13 +95,65 @@ class MeasureQuantityFormatTest {
 
   @Test
   void testParseCase1() {
-    assertThrows(UnsupportedOperationException.class,
-        () -> new MeasureQuantityFormat(NumberFormat.getInstance()).parse(null, null));
+    ParsePosition pos = new ParsePosition(4);
+    Quantity<?> quantity = new MeasureQuantityFormat(NumberFormat.getInstance()).parse("at: 12.5 km/h end", pos);
+    assertEquals(12.5, quantity.getValue());
+    assertEquals(MetricPrefix.kilo(METER).divide(TimeUnits.HOUR), quantity.getUnit());
+    assertEquals(13, pos.getIndex());
   }
 
   @Test
   void testParseCase2() {
-    assertThrows(UnsupportedOperationException.class, () -> new MeasureQuantityFormat().parse(null));
+    Quantity<?> quantity = new MeasureQuantityFormat().parse("3 400 mm");
+    assertEquals(3400.0, quantity.getValue());
+    assertEquals(MetricPrefix.milli(METER), quantity.getUnit());
+  }
+
+  @Test
+  void testParseFormatted() {
+    MeasureQuantityFormat format = new MeasureQuantityFormat(new DecimalFormat("0.#"), new MeasureUnitFormat());
+    Quantity<Length> length = new LengthAmount(2.5, MetricPrefix.micro(METER));
+    Quantity<?> quantity = format.parse(format.format(length));
+    assertEquals(2.5, quantity.getValue());
+    assertEquals(length.getUnit(), quantity.getUnit());
+  }
+
+  @Test
+  void testParseDecimal() {
+    Quantity<?> quantity = new MeasureQuantityFormat().parseDecimal("-0.10 m", new ParsePosition(0));
+    assertEquals(new BigDecimal("-0.10"), quantity.getValue());
+  }
+
+  @Test
+  void testParseConsumer() {
+    double[] values = new double[1];
+    Unit<?>[] units = new Unit<?>[1];
+    new MeasureQuantityFormat().parse("1e3 s", new ParsePosition(0), (v, u) -> {
+      values[0] = v;
+      units[0] = u;
+    });
+    assertEquals(1000.0, values[0]);
+    assertEquals(SECOND, units[0]);
+  }
+
+  @Test
+  void testParseNoNumber() {
+    ParsePosition pos = new ParsePosition(0);
+    assertThrows(MeasurementParseException.class, () -> new MeasureQuantityFormat().parse("m", pos));
+    assertEquals(0, pos.getErrorIndex());
+  }
+
+  @Test
+  void testParseNoUnit() {
+    ParsePosition pos = new ParsePosition(0);
+    assertThrows(MeasurementParseException.class, () -> new MeasureQuantityFormat().parse("12 ", pos));
+    assertEquals(0, pos.getIndex());
+    assertEquals(3, pos.getErrorIndex());
+  }
+
+  @Test
+  void testParseTrailing() {
+    assertThrows(MeasurementParseException.class, () -> new MeasureQuantityFormat().parse("1 m 2 cm"));
   }
 
   @Test
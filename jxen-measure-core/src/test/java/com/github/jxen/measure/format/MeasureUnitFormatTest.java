@@ -3,16 +3,23 @@ package com.github.jxen.measure.format;
 import static com.github.jxen.measure.system.MeterUnits.METER_PER_SECOND;
 import static com.github.jxen.measure.system.MeterUnits.METER_PER_SECOND_SQUARED;
 import static com.github.jxen.measure.system.MeterUnits.SQUARE_METER;
+import static com.github.jxen.measure.system.MetricUnits.KILOGRAM;
 import static com.github.jxen.measure.system.MetricUnits.METER;
+import static com.github.jxen.measure.system.MetricUnits.SECOND;
+import static com.github.jxen.measure.system.TimeUnits.HOUR;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.jxen.measure.unit.MetricPrefix;
 import com.github.jxen.measure.system.MetricUnits;
 import java.io.IOException;
+import java.text.ParsePosition;
 import java.util.Locale;
 import javax.measure.MeasurementException;
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -59,13 +66,49 @@ class MeasureUnitFormatTest {
   }
 
   @Test
-  void testParse2() {
-    assertThrows(UnsupportedOperationException.class, () -> new MeasureUnitFormat().parse(null, null));
+  void testParseSymbol() {
+    assertSame(METER, new MeasureUnitFormat().parse("m"));
   }
 
   @Test
-  void testParse() {
-    assertThrows(UnsupportedOperationException.class, () -> new MeasureUnitFormat().parse(null));
+  void testParsePrefixedSymbol() {
+    assertEquals(MetricPrefix.kilo(METER), new MeasureUnitFormat().parse("km"));
+  }
+
+  @Test
+  void testParseExpression() {
+    assertEquals(KILOGRAM.multiply(METER).divide(SECOND.pow(2)), new MeasureUnitFormat().parse("kg\u00B7m/s^2"));
+  }
+
+  @Test
+  void testParseFormatted() {
+    assertEquals(METER.divide(SECOND.pow(2)), new MeasureUnitFormat().parse("m\u2044s\u00B2"));
+  }
+
+  @Test
+  void testParseCached() {
+    Unit<?> unit = new MeasureUnitFormat().parse("km/h");
+    assertEquals(MetricPrefix.kilo(METER).divide(HOUR), unit);
+    assertSame(unit, new MeasureUnitFormat().parse(new StringBuilder("km/h")));
+  }
+
+  @Test
+  void testParsePosition() {
+    ParsePosition pos = new ParsePosition(3);
+    assertEquals(SECOND.pow(-1), new MeasureUnitFormat().parse("10 1/s left", pos));
+    assertEquals(6, pos.getIndex());
+  }
+
+  @Test
+  void testParseUnknown() {
+    ParsePosition pos = new ParsePosition(0);
+    assertThrows(MeasurementParseException.class, () -> new MeasureUnitFormat().parse("m/q", pos));
+    assertEquals(2, pos.getErrorIndex());
+  }
+
+  @Test
+  void testParseMissingExponent() {
+    assertThrows(MeasurementParseException.class, () -> new MeasureUnitFormat().parse("m^"));
   }
 
   @Test
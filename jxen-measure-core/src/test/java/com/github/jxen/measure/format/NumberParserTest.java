@@ -0,0 +1,90 @@
+package com.github.jxen.measure.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.text.ParsePosition;
+import javax.measure.format.MeasurementParseException;
+import org.junit.jupiter.api.Test;
+
+class NumberParserTest {
+
+  @Test
+  void testInteger() {
+    ParsePosition pos = new ParsePosition(0);
+    assertEquals(42.0, NumberParser.parseDouble("42m", pos));
+    assertEquals(2, pos.getIndex());
+  }
+
+  @Test
+  void testFraction() {
+    assertEquals(0.1, NumberParser.parseDouble("0.1", new ParsePosition(0)));
+  }
+
+  @Test
+  void testExponent() {
+    assertEquals(-1.5e-7, NumberParser.parseDouble("-1.5E-7", new ParsePosition(0)));
+  }
+
+  @Test
+  void testNotExponent() {
+    ParsePosition pos = new ParsePosition(0);
+    assertEquals(5.0, NumberParser.parseDouble("5eV", pos));
+    assertEquals(1, pos.getIndex());
+  }
+
+  @Test
+  void testGroups() {
+    ParsePosition pos = new ParsePosition(0);
+    assertEquals(1234567.0, NumberParser.parseDouble("1 234 567 m", pos));
+    assertEquals(9, pos.getIndex());
+  }
+
+  @Test
+  void testLongMantissa() {
+    String text = "3.14159265358979323846264338327950288";
+    assertEquals(Double.parseDouble(text), NumberParser.parseDouble(text, new ParsePosition(0)));
+  }
+
+  @Test
+  void testLargeExponent() {
+    assertEquals(1.7976931348623157e308, NumberParser.parseDouble("1.7976931348623157e308", new ParsePosition(0)));
+  }
+
+  @Test
+  void testDecimal() {
+    assertEquals(new BigDecimal("1234.50"), NumberParser.parseDecimal("1 234.50", new ParsePosition(0)));
+  }
+
+  @Test
+  void testLongDecimal() {
+    String text = "-12345678901234567890.123";
+    assertEquals(new BigDecimal(text), NumberParser.parseDecimal(text, new ParsePosition(0)));
+  }
+
+  @Test
+  void testNoNumber() {
+    ParsePosition pos = new ParsePosition(1);
+    assertThrows(MeasurementParseException.class, () -> NumberParser.parseDouble("1-.", pos));
+    assertEquals(1, pos.getErrorIndex());
+  }
+
+  @Test
+  void testDecimalLargeExponent() {
+    assertEquals(new BigDecimal("1E+12345"), NumberParser.parseDecimal("1e12345", new ParsePosition(0)));
+    assertEquals(new BigDecimal("-2.5E-12345"), NumberParser.parseDecimal("-2.5e-12345", new ParsePosition(0)));
+  }
+
+  @Test
+  void testDecimalExponentOutOfRange() {
+    ParsePosition pos = new ParsePosition(0);
+    assertThrows(MeasurementParseException.class, () -> NumberParser.parseDecimal("1e99999999999", pos));
+    assertEquals(0, pos.getErrorIndex());
+  }
+
+  @Test
+  void testDoubleLargeExponent() {
+    assertEquals(Double.POSITIVE_INFINITY, NumberParser.parseDouble("1e12345", new ParsePosition(0)));
+  }
+}
@@ -5,9 +5,14 @@ import static com.github.jxen.measure.system.MeterUnits.SQUARE_METER;
 import static com.github.jxen.measure.unit.MetricPrefix.ATTO;
 import static com.github.jxen.measure.system.MetricUnits.METER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.github.jxen.measure.format.UnitNameHelper.DefaultFormatter;
+import com.github.jxen.measure.format.UnitNameHelper.Formatter;
 import com.github.jxen.measure.unit.MetricPrefix;
+import java.util.List;
+import java.util.ResourceBundle;
 import javax.measure.MeasurementException;
 import org.junit.jupiter.api.Test;
 
@@ -104,4 +109,23 @@ class UnitNameHelperTest {
   void testPowCaseFailure() {
     assertThrows(MeasurementException.class, () -> UnitNameHelper.pow(METER.alternate("m^m"), 2));
   }
+
+  @Test
+  void testFormatterTemplate() {
+    ResourceBundle bundle = ResourceBundle.getBundle(MeasureUnitFormat.class.getName() + "_unit");
+    Formatter formatter = new DefaultFormatter(MeasureUnitFormat.DEFAULT_ADAPTER, List.of(bundle));
+    String symbol = formatter.format(1, "kilo:meter/second^2");
+    assertEquals("km\u2044s\u00B2", symbol);
+    assertSame(symbol, formatter.format(2.5, "kilo:meter/second^2"));
+  }
+
+  @Test
+  void testFormatterEvictedTemplate() {
+    ResourceBundle bundle = ResourceBundle.getBundle(MeasureUnitFormat.class.getName() + "_unit");
+    Formatter formatter = new DefaultFormatter(MeasureUnitFormat.DEFAULT_ADAPTER, List.of(bundle));
+    for (int i = 1; i < 5000; i++) {
+      formatter.format(1, "second*meter^" + i);
+    }
+    assertEquals("km\u2044s\u00B2", formatter.format(1, "kilo:meter/second^2"));
+  }
 }
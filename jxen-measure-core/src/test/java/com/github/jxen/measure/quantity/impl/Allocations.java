@@ -0,0 +1,34 @@
+package com.github.jxen.measure.quantity.impl;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+final class Allocations {
+
+  private static final int WARM_UP = 50_000;
+  private static final int ITERATIONS = 200_000;
+
+  private static volatile Object sink;
+
+  private Allocations() {
+  }
+
+  // Results are published to the sink, so allocation of results cannot be eliminated.
+  static double perCall(Supplier<?> operation) {
+    Object bean = ManagementFactory.getThreadMXBean();
+    assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+    assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+    long id = Thread.currentThread().getId();
+    for (int i = 0; i < WARM_UP; i++) {
+      sink = operation.get();
+    }
+    long before = threads.getThreadAllocatedBytes(id);
+    for (int i = 0; i < ITERATIONS; i++) {
+      sink = operation.get();
+    }
+    return (double) (threads.getThreadAllocatedBytes(id) - before) / ITERATIONS;
+  }
+}
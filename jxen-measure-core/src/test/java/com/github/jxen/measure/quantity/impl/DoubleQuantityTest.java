@@ -0,0 +1,103 @@
+package com.github.jxen.measure.quantity.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.jxen.measure.system.MeterUnits;
+import com.github.jxen.measure.system.MetricUnits;
+import com.github.jxen.measure.system.RadianUnits;
+import com.github.jxen.measure.unit.MetricPrefix;
+import javax.measure.Quantity;
+import javax.measure.quantity.Angle;
+import javax.measure.quantity.Area;
+import javax.measure.quantity.Length;
+import org.junit.jupiter.api.Test;
+
+class DoubleQuantityTest {
+
+  @Test
+  void testAdd() {
+    DoubleAngleAmount angle = new DoubleAngleAmount(1, RadianUnits.RADIAN);
+    Angle actual = angle.add(angle);
+    assertEquals(new DoubleAngleAmount(2, RadianUnits.RADIAN), actual);
+  }
+
+  @Test
+  void testAddOtherUnit() {
+    DoubleLengthAmount length = new DoubleLengthAmount(1, MetricUnits.METER);
+    Length actual = length.add(new DoubleLengthAmount(1, MetricPrefix.kilo(MetricUnits.METER)));
+    assertEquals(new DoubleLengthAmount(1001, MetricUnits.METER), actual);
+  }
+
+  @Test
+  void testAddBoxed() {
+    DoubleLengthAmount length = new DoubleLengthAmount(1, MetricUnits.METER);
+    Length actual = length.add(new LengthAmount(2, MetricUnits.METER));
+    assertEquals(3.0, actual.getValue());
+  }
+
+  @Test
+  void testAddAllocation() {
+    DoubleLengthAmount augend = new DoubleLengthAmount(1, MetricUnits.METER);
+    DoubleLengthAmount length = new DoubleLengthAmount(2, MetricUnits.METER);
+    // The result is the only allocated object.
+    double expected = Allocations.perCall(() -> new DoubleLengthAmount(augend.doubleValue() + 2, MetricUnits.METER));
+    assertTrue(Allocations.perCall(() -> length.add(augend)) <= expected);
+  }
+
+  @Test
+  void testSubtract() {
+    DoubleAreaAmount area = new DoubleAreaAmount(1, MeterUnits.SQUARE_METER);
+    Area actual = area.subtract(area);
+    assertEquals(new DoubleAreaAmount(0, MeterUnits.SQUARE_METER), actual);
+  }
+
+  @Test
+  void testMultiplyQuantity() {
+    DoubleLengthAmount length = new DoubleLengthAmount(2, MetricUnits.METER);
+    Quantity<Area> actual = length.multiply(length).asType(Area.class);
+    assertEquals(4, actual.getValue().doubleValue());
+  }
+
+  @Test
+  void testAsTypeUnboxed() {
+    DoubleLengthAmount length = new DoubleLengthAmount(2, MetricUnits.METER);
+    Quantity<Area> actual = length.multiply(length).asType(Area.class);
+    assertTrue(actual instanceof DoubleAreaAmount);
+    assertEquals(4, ((DoubleAreaAmount) actual).doubleValue());
+  }
+
+  @Test
+  void testDivideNumber() {
+    DoubleLengthAmount length = new DoubleLengthAmount(2, MetricUnits.METER);
+    assertEquals(1, ((DoubleQuantity<Length>) length.divide(2)).doubleValue());
+  }
+
+  @Test
+  void testTo() {
+    DoubleLengthAmount length = new DoubleLengthAmount(1500, MetricUnits.METER);
+    assertEquals(1.5, length.doubleValue(MetricPrefix.kilo(MetricUnits.METER)));
+    assertSame(length, length.to(MetricUnits.METER));
+  }
+
+  @Test
+  void testCompareTo() {
+    DoubleLengthAmount length = new DoubleLengthAmount(1000, MetricUnits.METER);
+    assertTrue(length.isEquivalentTo(new DoubleLengthAmount(1, MetricPrefix.kilo(MetricUnits.METER))));
+    assertTrue(length.compareTo(new LengthAmount(2, MetricPrefix.kilo(MetricUnits.METER))) < 0);
+  }
+
+  @Test
+  void testOfDouble() {
+    DoubleQuantity<Length> length = Quantities.ofDouble(1, MetricUnits.METER);
+    assertEquals(1.0, length.getValue());
+    assertNotEquals(length, new DoubleLengthAmount(1, MetricUnits.METER));
+  }
+
+  @Test
+  void testToString() {
+    assertEquals("1.0meter", new DoubleLengthAmount(1, MetricUnits.METER).toString());
+  }
+}
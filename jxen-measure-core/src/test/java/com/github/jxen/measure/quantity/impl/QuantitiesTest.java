@@ -1,9 +1,12 @@
 package com.github.jxen.measure.quantity.impl;
 
 import static com.github.jxen.measure.system.MetricUnits.METER;
+import static com.github.jxen.measure.system.MetricUnits.SECOND;
+import static com.github.jxen.measure.system.RadianUnits.RADIAN;
 import static com.github.jxen.measure.unit.MetricPrefix.kilo;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -11,6 +14,7 @@ import com.github.jxen.math.rational.BigRational;
 import com.github.jxen.math.rational.Rational;
 import javax.measure.Quantity.Scale;
 import javax.measure.quantity.Length;
+import javax.measure.quantity.Time;
 import javax.measure.spi.QuantityFactory;
 import org.junit.jupiter.api.Test;
 
@@ -20,9 +24,31 @@ class QuantitiesTest {
   void testGetFactory() {
     QuantityFactory<Length> factory = Quantities.getFactory(Length.class);
     assertAll(
-        () -> assertThrows(UnsupportedOperationException.class, () -> factory.create(1, METER, Scale.ABSOLUTE)),
+        () -> assertEquals(Scale.RELATIVE, factory.create(1, METER, Scale.RELATIVE).getScale()),
         () -> assertEquals(1, factory.create(1, METER).getValue()),
-        () -> assertEquals(METER, factory.create(1, METER).getUnit())
+        () -> assertEquals(METER, factory.create(1, METER).getUnit()),
+        () -> assertEquals(METER, factory.getSystemUnit())
+    );
+  }
+
+  @Test
+  void testGetFactoryCached() {
+    assertSame(Quantities.getFactory(Length.class), Quantities.getFactory(Length.class));
+  }
+
+  @Test
+  void testGetFactoryTyped() {
+    assertTrue(Quantities.getFactory(Length.class).create(1, METER) instanceof LengthAmount);
+    assertTrue(Quantities.getFactory(Time.class).create(1, SECOND) instanceof QuantityImpl);
+  }
+
+  @Test
+  void testOfTyped() {
+    assertAll(
+        () -> assertTrue(Quantities.of(1, METER) instanceof LengthAmount),
+        () -> assertTrue(Quantities.of(1, METER.multiply(METER)) instanceof AreaAmount),
+        () -> assertTrue(Quantities.of(1, SECOND) instanceof QuantityImpl),
+        () -> assertTrue(Quantities.of(1, RADIAN) instanceof QuantityImpl)
     );
   }
 
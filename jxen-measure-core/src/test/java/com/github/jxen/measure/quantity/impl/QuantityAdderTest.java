@@ -0,0 +1,86 @@
+package com.github.jxen.measure.quantity.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.jxen.measure.system.MetricUnits;
+import com.github.jxen.measure.unit.MetricPrefix;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.stream.IntStream;
+import javax.measure.quantity.Length;
+import org.junit.jupiter.api.Test;
+
+class QuantityAdderTest {
+
+  @Test
+  void testExact() {
+    QuantityAdder<Length> adder = new QuantityAdder<>(MetricUnits.METER);
+    adder.add(Quantities.of(1, MetricPrefix.kilo(MetricUnits.METER)));
+    adder.add(Quantities.of(2, MetricUnits.METER));
+    assertEquals(1002L, adder.sum().getValue());
+  }
+
+  @Test
+  void testInexact() {
+    QuantityAdder<Length> adder = new QuantityAdder<>(MetricUnits.METER);
+    adder.add(Quantities.of(1, MetricUnits.METER));
+    adder.add(Quantities.of(0.5, MetricPrefix.kilo(MetricUnits.METER)));
+    assertEquals(501.0, adder.sum().getValue());
+  }
+
+  @Test
+  void testCompensated() {
+    QuantityAdder<Length> adder = new QuantityAdder<>(MetricUnits.METER);
+    for (int i = 0; i < 10; i++) {
+      adder.add(0.1);
+    }
+    assertEquals(1.0, adder.doubleValue());
+  }
+
+  @Test
+  void testConcurrent() {
+    QuantityAdder<Length> adder = new QuantityAdder<>(MetricUnits.METER);
+    IntStream.range(0, 10000).parallel().forEach(i -> adder.add(Quantities.of(1, MetricUnits.METER)));
+    assertEquals(10000, adder.longValue());
+  }
+
+  @Test
+  void testLongValueInexact() {
+    QuantityAdder<Length> adder = new QuantityAdder<>(MetricUnits.METER);
+    adder.add(0.5);
+    assertThrows(ArithmeticException.class, adder::longValue);
+    adder.add(0.5);
+    assertEquals(1, adder.longValue());
+  }
+
+  @Test
+  void testLongValueOverflow() {
+    QuantityAdder<Length> adder = new QuantityAdder<>(MetricUnits.METER);
+    adder.add(Long.MAX_VALUE);
+    adder.add(Long.MAX_VALUE);
+    assertThrows(ArithmeticException.class, adder::longValue);
+  }
+
+  @Test
+  void testSumThenReset() {
+    QuantityAdder<Length> adder = new QuantityAdder<>(MetricUnits.METER);
+    adder.add(3L);
+    assertEquals(3L, adder.sumThenReset().getValue());
+    assertEquals(0L, adder.sum().getValue());
+  }
+
+  @Test
+  void testConcurrentSumThenReset() throws InterruptedException {
+    QuantityAdder<Length> adder = new QuantityAdder<>(MetricUnits.METER);
+    DoubleAdder drained = new DoubleAdder();
+    Thread drainer = new Thread(() -> {
+      for (int i = 0; i < 1000; i++) {
+        drained.add(adder.sumThenReset().getValue().doubleValue());
+      }
+    });
+    drainer.start();
+    IntStream.range(0, 100000).parallel().forEach(i -> adder.add(0.5));
+    drainer.join();
+    assertEquals(50000.0, drained.sum() + adder.doubleValue());
+  }
+}
@@ -0,0 +1,78 @@
+package com.github.jxen.measure.quantity.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.github.jxen.math.rational.BigRational;
+import com.github.jxen.measure.system.MetricUnits;
+import com.github.jxen.measure.system.MiscUnits;
+import com.github.jxen.measure.unit.MetricPrefix;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Temperature;
+import org.junit.jupiter.api.Test;
+
+class QuantityCollectorsTest {
+
+  private static final Unit<Length> KILOMETER = MetricPrefix.kilo(MetricUnits.METER);
+
+  private final List<Quantity<Length>> lengths = Arrays.asList(Quantities.of(1, MetricUnits.METER),
+      Quantities.of(2, KILOMETER), Quantities.of(3, MetricUnits.METER));
+
+  @Test
+  void testSumming() {
+    Quantity<Length> sum = lengths.stream().collect(QuantityCollectors.summing(MetricUnits.METER));
+    assertEquals(BigRational.valueOf(2004), sum.getValue());
+  }
+
+  @Test
+  void testSummingInexact() {
+    Quantity<Length> sum = lengths.stream().map(q -> q.multiply(0.5))
+        .collect(QuantityCollectors.summing(MetricUnits.METER));
+    assertEquals(1002.0, sum.getValue());
+  }
+
+  @Test
+  void testSummingParallel() {
+    Quantity<Length> sum = IntStream.range(0, 1000).parallel()
+        .mapToObj(i -> Quantities.of(i, i % 2 == 0 ? MetricUnits.METER : KILOMETER))
+        .collect(QuantityCollectors.summing(MetricUnits.METER));
+    assertEquals(BigRational.valueOf(249500 + 250000000), sum.getValue());
+  }
+
+  @Test
+  void testAveragingNonLinear() {
+    List<Quantity<Temperature>> temperatures = Arrays.asList(Quantities.of(0, MiscUnits.CELSIUS),
+        Quantities.of(10, MiscUnits.CELSIUS));
+    Quantity<Temperature> average = temperatures.stream().collect(QuantityCollectors.averaging(MetricUnits.KELVIN));
+    assertEquals(278.15, average.getValue().doubleValue(), 1e-9);
+  }
+
+  @Test
+  void testMinMax() {
+    assertEquals(1.0, lengths.stream().collect(QuantityCollectors.minimizing(MetricUnits.METER))
+        .orElseThrow().getValue());
+    assertEquals(2000.0, lengths.stream().collect(QuantityCollectors.maximizing(MetricUnits.METER))
+        .orElseThrow().getValue());
+  }
+
+  @Test
+  void testSummarizing() {
+    QuantityCollectors.Statistics<Length> statistics = lengths.stream()
+        .collect(QuantityCollectors.summarizing(KILOMETER));
+    assertEquals(3, statistics.getCount());
+    assertEquals(BigRational.valueOf(2004).multiply(new BigRational(1, 1000)), statistics.getSum().getValue());
+  }
+
+  @Test
+  void testEmpty() {
+    QuantityCollectors.Statistics<Length> statistics = lengths.stream().limit(0)
+        .collect(QuantityCollectors.summarizing(KILOMETER));
+    assertEquals(0, statistics.getCount());
+    assertFalse(statistics.getMin().isPresent());
+  }
+}
@@ -0,0 +1,94 @@
+package com.github.jxen.measure.quantity.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.jxen.measure.system.MetricUnits;
+import com.github.jxen.measure.system.TimeUnits;
+import com.github.jxen.measure.unit.MetricPrefix;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Time;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class QuantityColumnTest {
+
+  @Test
+  void testAllocate() {
+    QuantityColumn<Time> column = QuantityColumn.allocate(MetricUnits.SECOND, 2);
+    column.setDouble(0, 60);
+    column.setDouble(1, 90);
+    column.convertTo(TimeUnits.MINUTE);
+    assertEquals(TimeUnits.MINUTE, column.getUnit());
+    assertEquals(1, column.getDouble(0));
+    assertEquals(1.5, column.get(1).doubleValue());
+  }
+
+  @Test
+  void testMapped(@TempDir Path dir) throws IOException {
+    Path file = dir.resolve("time.column");
+    QuantityColumn<Time> column = QuantityColumn.create(file, MetricUnits.SECOND, 3);
+    for (int i = 0; i < column.size(); i++) {
+      column.setDouble(i, 60 * i);
+    }
+    column.convertTo(TimeUnits.MINUTE);
+    column.force();
+    QuantityColumn<Time> reopened = QuantityColumn.open(file, Time.class);
+    assertEquals(3, reopened.size());
+    assertEquals(TimeUnits.MINUTE, reopened.getUnit());
+    assertEquals(2, reopened.getDouble(2));
+  }
+
+  @Test
+  void testOpenWrongType(@TempDir Path dir) throws IOException {
+    Path file = dir.resolve("time.column");
+    QuantityColumn.create(file, MetricUnits.SECOND, 1).force();
+    assertThrows(ClassCastException.class, () -> QuantityColumn.open(file, Length.class));
+  }
+
+  @Test
+  void testUnregisteredUnit() {
+    assertThrows(IllegalArgumentException.class,
+        () -> QuantityColumn.allocate(MetricPrefix.kilo(MetricUnits.SECOND), 1));
+  }
+
+  @Test
+  void testWrapKeepsByteOrder(@TempDir Path dir) throws IOException {
+    Path file = dir.resolve("time.column");
+    QuantityColumn<Time> column = QuantityColumn.create(file, MetricUnits.SECOND, 1);
+    column.setDouble(0, 1);
+    column.force();
+    ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+    assertEquals(1, QuantityColumn.wrap(buffer, Time.class).getDouble(0));
+    assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+  }
+
+  @Test
+  void testWrapInvalid() {
+    assertThrows(IllegalArgumentException.class, () -> QuantityColumn.wrap(ByteBuffer.allocate(256), Time.class));
+  }
+
+  @Test
+  void testWrapInvalidNameLength() {
+    ByteBuffer buffer = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(0, 0x51434F4C);
+    buffer.putInt(Integer.BYTES, Integer.MAX_VALUE);
+    assertThrows(IllegalArgumentException.class, () -> QuantityColumn.wrap(buffer, Time.class));
+  }
+
+  @Test
+  void testOpenTruncated(@TempDir Path dir) throws IOException {
+    Path file = Files.write(dir.resolve("time.column"), new byte[131]);
+    assertThrows(IllegalArgumentException.class, () -> QuantityColumn.open(file, Time.class));
+  }
+
+  @Test
+  void testNegativeSize() {
+    assertThrows(IllegalArgumentException.class, () -> QuantityColumn.allocate(MetricUnits.SECOND, -1));
+  }
+}
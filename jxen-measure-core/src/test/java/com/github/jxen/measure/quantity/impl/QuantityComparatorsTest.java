@@ -0,0 +1,61 @@
+package com.github.jxen.measure.quantity.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.jxen.measure.system.MetricUnits;
+import com.github.jxen.measure.system.MiscUnits;
+import com.github.jxen.measure.unit.MetricPrefix;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+import org.junit.jupiter.api.Test;
+
+class QuantityComparatorsTest {
+
+  private static final Unit<Length> KILOMETER = MetricPrefix.kilo(MetricUnits.METER);
+
+  @Test
+  void testComparator() {
+    assertTrue(QuantityComparators.<Length>bySystemValue()
+        .compare(Quantities.of(999, MetricUnits.METER), Quantities.of(1, KILOMETER)) < 0);
+  }
+
+  @Test
+  void testSystemValue() {
+    assertEquals(273.15, QuantityComparators.systemValue(Quantities.of(0, MiscUnits.CELSIUS)), 1e-9);
+  }
+
+  @Test
+  void testSortList() {
+    Quantity<Length> a = Quantities.of(2, KILOMETER);
+    Quantity<Length> b = Quantities.of(1500, MetricUnits.METER);
+    Quantity<Length> c = new DoubleLengthAmount(1, MetricUnits.METER);
+    Quantity<Length> d = Quantities.of(1.5, KILOMETER);
+    List<Quantity<Length>> list = new ArrayList<>(Arrays.asList(a, b, c, d));
+    QuantityComparators.sort(list);
+    assertEquals(Arrays.asList(c, b, d, a), list);
+  }
+
+  @Test
+  void testSortArray() {
+    @SuppressWarnings("unchecked")
+    Quantity<Length>[] array = new Quantity[100];
+    for (int i = 0; i < array.length; i++) {
+      int value = (i * 37) % 100;
+      array[i] = i % 2 == 0 ? Quantities.of(value, MetricUnits.METER) : Quantities.of(value / 1000.0, KILOMETER);
+    }
+    QuantityComparators.sort(array);
+    for (int i = 0; i < array.length; i++) {
+      assertEquals(i, QuantityComparators.systemValue(array[i]), 1e-9);
+    }
+  }
+
+  @Test
+  void testCompareToOtherUnit() {
+    assertEquals(0, new LengthAmount(1000, MetricUnits.METER).compareTo(Quantities.of(1, KILOMETER)));
+  }
+}
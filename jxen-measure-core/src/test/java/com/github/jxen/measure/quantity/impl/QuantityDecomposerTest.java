@@ -2,8 +2,13 @@ package com.github.jxen.measure.quantity.impl;
 
 import static com.github.jxen.measure.quantity.impl.Quantities.of;
 import static com.github.jxen.measure.system.MetricUnits.METER;
+import static com.github.jxen.measure.system.MetricUnits.SECOND;
+import static com.github.jxen.measure.system.TimeUnits.DAY;
+import static com.github.jxen.measure.system.TimeUnits.HOUR;
+import static com.github.jxen.measure.system.TimeUnits.MINUTE;
 import static com.github.jxen.measure.unit.MetricPrefix.centi;
 import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -14,6 +19,7 @@ import javax.measure.MeasurementException;
 import javax.measure.Quantity;
 import javax.measure.Unit;
 import javax.measure.quantity.Length;
+import javax.measure.quantity.Time;
 import org.junit.jupiter.api.Test;
 
 class QuantityDecomposerTest {
@@ -73,4 +79,50 @@ class QuantityDecomposerTest {
     Quantity<Length> length = of(-1.25, METER);
     assertThrows(MeasurementException.class, () -> decomposer.decompose(length));
   }
+
+  @Test
+  void testToListIntegral() {
+    QuantityDecomposer<Time> decomposer = new QuantityDecomposer<>(asList(SECOND, MINUTE, HOUR, DAY));
+    List<Quantity<Time>> expected = asList(of(1.0, DAY), of(2.0, HOUR), of(3.0, MINUTE), of(4.0, SECOND));
+    assertEquals(expected, decomposer.decompose(of(93784, SECOND)));
+    assertEquals(expected, decomposer.decompose(of(93784L, SECOND)));
+  }
+
+  @Test
+  void testToListIntegralOtherUnit() {
+    QuantityDecomposer<Time> decomposer = new QuantityDecomposer<>(asList(SECOND, MINUTE));
+    assertEquals(Collections.singletonList(of(60.0, MINUTE)), decomposer.decompose(of(1, HOUR)));
+  }
+
+  @Test
+  void testDecomposeLongArray() {
+    QuantityDecomposer<Time> decomposer = new QuantityDecomposer<>(asList(SECOND, MINUTE, HOUR, DAY));
+    long[] actual = decomposer.decompose(new long[] {93784, 61}, SECOND);
+    assertArrayEquals(new long[] {1, 2, 3, 4, 0, 0, 1, 1}, actual);
+  }
+
+  @Test
+  void testDecomposeLongArrayOtherUnit() {
+    QuantityDecomposer<Time> decomposer = new QuantityDecomposer<>(asList(SECOND, MINUTE));
+    assertArrayEquals(new long[] {60, 0}, decomposer.decompose(new long[] {1}, HOUR));
+  }
+
+  @Test
+  void testDecomposeLongArrayNegative() {
+    QuantityDecomposer<Time> decomposer = new QuantityDecomposer<>(asList(SECOND, MINUTE));
+    assertThrows(MeasurementException.class, () -> decomposer.decompose(new long[] {-1}, SECOND));
+  }
+
+  @Test
+  void testDecomposeDoubleArray() {
+    Unit<Length> cm = centi(METER);
+    QuantityDecomposer<Length> decomposer = new QuantityDecomposer<>(asList(METER, cm));
+    assertArrayEquals(new double[] {1, 25, 0, 50}, decomposer.decompose(new double[] {1.25, 0.5}, METER));
+  }
+
+  @Test
+  void testUnitsImmutable() {
+    QuantityDecomposer<Length> decomposer = new QuantityDecomposer<>(Collections.singleton(METER));
+    assertThrows(UnsupportedOperationException.class, () -> decomposer.getUnits().add(centi(METER)));
+  }
 }
@@ -2,6 +2,9 @@ package com.github.jxen.measure.quantity.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.jxen.measure.system.AmpereUnits;
 import com.github.jxen.measure.system.MeterUnits;
@@ -9,7 +12,9 @@ import com.github.jxen.measure.system.MetricUnits;
 import com.github.jxen.measure.system.MiscUnits;
 import com.github.jxen.measure.system.NamedUnits;
 import com.github.jxen.measure.system.RadianUnits;
+import com.github.jxen.measure.unit.MetricPrefix;
 import javax.measure.Quantity;
+import javax.measure.Unit;
 import javax.measure.quantity.Angle;
 import javax.measure.quantity.Area;
 import javax.measure.quantity.ElectricPotential;
@@ -27,6 +32,28 @@ class QuantityImplTest {
     assertEquals(new AngleAmount(2.0, RadianUnits.RADIAN), actual);
   }
 
+  @Test
+  void testAddWithoutConversionToQuantity() {
+    LengthAmount augend = new LengthAmount(1, MetricPrefix.kilo(MetricUnits.METER)) {
+      @Override
+      public Length to(Unit<Length> unit) {
+        throw new AssertionError("Augend should not be converted to quantity");
+      }
+    };
+    Length actual = new LengthAmount(1.0, MetricUnits.METER).add(augend);
+    assertEquals(1001.0, actual.getValue().doubleValue());
+  }
+
+  @Test
+  void testAddAllocation() {
+    LengthAmount augend = new LengthAmount(1.0, MetricUnits.METER);
+    LengthAmount length = new LengthAmount(2.0, MetricUnits.METER);
+    // The result and its boxed value, no converted augend or other temporaries.
+    double expected = Allocations.perCall(() -> new LengthAmount(augend.getValue().doubleValue() + 2.0,
+        MetricUnits.METER));
+    assertTrue(Allocations.perCall(() -> length.add(augend)) <= expected);
+  }
+
   @Test
   void testSubtract() {
     AreaAmount area = new AreaAmount(1, MeterUnits.SQUARE_METER);
@@ -55,6 +82,32 @@ class QuantityImplTest {
     assertEquals(4, actual.getValue().doubleValue());
   }
 
+  @Test
+  void testAsTypeTyped() {
+    LengthAmount length = new LengthAmount(2, MetricUnits.METER);
+    assertTrue(length.multiply(length).asType(Area.class) instanceof AreaAmount);
+  }
+
+  @Test
+  void testAsTypeSame() {
+    LengthAmount length = new LengthAmount(2, MetricUnits.METER);
+    assertSame(length, length.asType(Length.class));
+  }
+
+  @Test
+  void testAsTypeReducedDimension() {
+    Quantity<?> volume = Quantities.of(6, MetricUnits.METER.pow(3));
+    Quantity<?> area = Quantities.of(2, MetricUnits.METER.pow(2));
+    Quantity<Length> actual = volume.divide(area).asType(Length.class);
+    assertEquals(3, actual.getValue().doubleValue());
+  }
+
+  @Test
+  void testAsTypeWrongDimension() {
+    LengthAmount length = new LengthAmount(2, MetricUnits.METER);
+    assertThrows(ClassCastException.class, () -> length.multiply(length).asType(Length.class));
+  }
+
   @Test
   void testMultiplyNumber() {
     DensityAmount density = new DensityAmount(2, NamedUnits.KILOGRAM_PER_CUBIC_METER);
@@ -0,0 +1,78 @@
+package com.github.jxen.measure.quantity.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.jxen.measure.system.MetricUnits;
+import com.github.jxen.measure.unit.MetricPrefix;
+import java.util.NoSuchElementException;
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+import org.junit.jupiter.api.Test;
+
+class QuantityVectorTest {
+
+  private static final Unit<Length> KILOMETER = MetricPrefix.kilo(MetricUnits.METER);
+
+  @Test
+  void testTo() {
+    QuantityVector<Length> vector = QuantityVector.of(MetricUnits.METER, 1000, 2500);
+    assertArrayEquals(new double[] {1, 2.5}, vector.to(KILOMETER).toArray());
+    assertSame(vector, vector.to(MetricUnits.METER));
+  }
+
+  @Test
+  void testAddVector() {
+    QuantityVector<Length> vector = QuantityVector.of(MetricUnits.METER, 1, 2);
+    QuantityVector<Length> actual = vector.add(QuantityVector.of(KILOMETER, 1, 2));
+    assertEquals(QuantityVector.of(MetricUnits.METER, 1001, 2002), actual);
+  }
+
+  @Test
+  void testAddVectorSizeMismatch() {
+    QuantityVector<Length> vector = QuantityVector.of(MetricUnits.METER, 1, 2);
+    assertThrows(IllegalArgumentException.class, () -> vector.add(QuantityVector.of(MetricUnits.METER, 1)));
+  }
+
+  @Test
+  void testAddQuantity() {
+    QuantityVector<Length> vector = QuantityVector.of(MetricUnits.METER, 1, 2);
+    assertArrayEquals(new double[] {1001, 1002}, vector.add(Quantities.of(1, KILOMETER)).toArray());
+  }
+
+  @Test
+  void testScale() {
+    assertArrayEquals(new double[] {2, 4}, QuantityVector.of(MetricUnits.METER, 1, 2).scale(2).toArray());
+  }
+
+  @Test
+  void testAggregates() {
+    QuantityVector<Length> vector = QuantityVector.of(MetricUnits.METER, 3, 1, 2);
+    assertEquals(6, vector.sum().doubleValue());
+    assertEquals(1, vector.min().doubleValue());
+    assertEquals(3, vector.max().doubleValue());
+  }
+
+  @Test
+  void testMinEmpty() {
+    assertThrows(NoSuchElementException.class, () -> QuantityVector.of(MetricUnits.METER).min());
+  }
+
+  @Test
+  void testFilter() {
+    QuantityVector<Length> vector = QuantityVector.of(MetricUnits.METER, 3, 1, 2);
+    assertEquals(QuantityVector.of(MetricUnits.METER, 3, 2), vector.filter(v -> v > 1));
+  }
+
+  @Test
+  void testSlice() {
+    QuantityVector<Length> vector = QuantityVector.of(MetricUnits.METER, 1, 2, 3, 4).slice(1, 3);
+    assertEquals(2, vector.size());
+    assertEquals(QuantityVector.of(MetricUnits.METER, 2, 3), vector);
+    assertEquals(QuantityVector.of(MetricUnits.METER, 2, 3).hashCode(), vector.hashCode());
+    assertEquals(2, vector.get(0).doubleValue());
+    assertThrows(IndexOutOfBoundsException.class, () -> vector.getDouble(2));
+  }
+}
@@ -3,8 +3,10 @@ package com.github.jxen.measure.spi;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.github.jxen.measure.format.MeasureUnitFormat;
 import java.util.Iterator;
 import java.util.ServiceLoader;
 import javax.measure.quantity.Length;
@@ -89,4 +91,10 @@ class MeasureServiceProviderTest {
   void testGetQuantityFactory() {
     assertNotNull(service.getQuantityFactory(Length.class));
   }
+
+  @Test
+  void testGetFormatServiceGetUnitFormatShared() {
+    assertSame(service.getFormatService().getUnitFormat("full"), service.getFormatService().getUnitFormat("FULL"));
+    assertSame(MeasureUnitFormat.getInstance(), service.getFormatService().getUnitFormat());
+  }
 }
@@ -57,6 +57,11 @@ class AbstractUnitTest {
     assertNotNull(METER.asType(Length.class));
   }
 
+  @Test
+  void testAsTypeMismatch() {
+    assertThrows(ClassCastException.class, () -> SECOND.asType(Length.class));
+  }
+
   @Test
   void testGetConverterToCase1() {
     assertSame(IDENTITY, METER.getConverterTo(METER));
@@ -145,4 +150,14 @@ class AbstractUnitTest {
   void testToString() {
     assertEquals("meter", METER.toString());
   }
+
+  @Test
+  void testGetSymbol() {
+    assertEquals("m", METER.getSymbol());
+  }
+
+  @Test
+  void testGetSymbolCached() {
+    assertSame(METER.getSymbol(), METER.getSymbol());
+  }
 }
@@ -46,4 +46,11 @@ class BaseUnitTest {
     BaseUnit<Length> unit = new BaseUnit<>("x", Dimensions.LENGTH);
     assertSame(unit, unit.toSystemUnit());
   }
+
+  @Test
+  void testBaseUnitsCached() {
+    BaseUnit<Length> unit = new BaseUnit<>("x", Dimensions.LENGTH);
+    assertSame(unit.getBaseUnits(), unit.getBaseUnits());
+    assertEquals(1, unit.getBaseUnits().get(unit));
+  }
 }
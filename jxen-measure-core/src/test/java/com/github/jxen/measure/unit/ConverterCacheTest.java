@@ -0,0 +1,59 @@
+package com.github.jxen.measure.unit;
+
+import static com.github.jxen.measure.system.MetricUnits.METER;
+import static com.github.jxen.measure.system.MetricUnits.SECOND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.measure.IncommensurableException;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+import org.junit.jupiter.api.Test;
+
+class ConverterCacheTest {
+
+  @Test
+  void testHit() throws IncommensurableException {
+    ConverterCache cache = new ConverterCache(16);
+    AbstractUnit<Length> km = MetricPrefix.kilo(METER);
+    UnitConverter converter = cache.get(km, METER);
+    assertSame(converter, cache.get(km, METER));
+    assertEquals(1, cache.getMisses());
+    assertEquals(1, cache.getHits());
+    assertEquals(1000.0, converter.convert(1.0));
+  }
+
+  @Test
+  void testIncompatible() {
+    ConverterCache cache = new ConverterCache(16);
+    assertThrows(IncommensurableException.class, () -> cache.get(METER, SECOND));
+    assertThrows(IncommensurableException.class, () -> cache.get(METER, SECOND));
+    assertEquals(1, cache.getMisses());
+    assertEquals(1, cache.getHits());
+  }
+
+  @Test
+  void testEviction() throws IncommensurableException {
+    ConverterCache cache = new ConverterCache(4);
+    for (MetricPrefix prefix : MetricPrefix.values()) {
+      cache.get(METER.prefix(prefix), METER);
+    }
+    assertTrue(cache.size() <= 4);
+  }
+
+  @Test
+  void testClear() throws IncommensurableException {
+    ConverterCache cache = new ConverterCache(16);
+    cache.get(MetricPrefix.kilo(METER), METER);
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getMisses());
+  }
+
+  @Test
+  void testInvalidCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new ConverterCache(0));
+  }
+}
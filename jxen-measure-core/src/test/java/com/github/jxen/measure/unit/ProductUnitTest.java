@@ -37,4 +37,21 @@ class ProductUnitTest {
     assertEquals(Converters.fromFactor(new BigRational(1, 1000000000)),
         ((AbstractUnit<?>) MetricPrefix.nano(METER)).getSystemConverter());
   }
+
+  @Test
+  void testGetSystemConverterFractional() {
+    assertEquals(Converters.fromFactor(1000),
+        ((AbstractUnit<?>) MetricPrefix.mega(METER).root(2)).getSystemConverter());
+    assertEquals(Converters.fromFactor(new BigRational(1, 1000)),
+        ((AbstractUnit<?>) MetricPrefix.micro(METER).root(2)).getSystemConverter());
+  }
+
+  @Test
+  void testDerivedPropertiesCached() {
+    AbstractUnit<?> unit = ProductUnit.getPowInstance(METER, 3);
+    assertSame(unit.getDimension(), unit.getDimension());
+    assertSame(unit.getSystemConverter(), unit.getSystemConverter());
+    assertSame(unit.getBaseUnits(), unit.getBaseUnits());
+    assertSame(unit.getSystemUnit(), unit.getSystemUnit());
+  }
 }
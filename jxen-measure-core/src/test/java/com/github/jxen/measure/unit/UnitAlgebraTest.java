@@ -0,0 +1,70 @@
+package com.github.jxen.measure.unit;
+
+import static com.github.jxen.measure.system.MetricUnits.METER;
+import static com.github.jxen.measure.system.MetricUnits.SECOND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.jxen.measure.dimension.Dimensions;
+import java.lang.ref.WeakReference;
+import javax.measure.quantity.Length;
+import org.junit.jupiter.api.Test;
+
+class UnitAlgebraTest {
+
+  @Test
+  void testMemoized() {
+    int[] count = {0};
+    BaseUnit<Length> unit = new BaseUnit<>("memo", Dimensions.LENGTH);
+    AbstractUnit<?> first = UnitAlgebra.apply(UnitAlgebra.Operation.MULTIPLY, unit, SECOND, 0, () -> {
+      count[0]++;
+      return unit.multiply(SECOND);
+    });
+    AbstractUnit<?> second = UnitAlgebra.apply(UnitAlgebra.Operation.MULTIPLY, unit, SECOND, 0, () -> {
+      count[0]++;
+      return unit.multiply(SECOND);
+    });
+    assertSame(first, second);
+    assertEquals(1, count[0]);
+  }
+
+  @Test
+  void testResultNotPinned() throws InterruptedException {
+    WeakReference<AbstractUnit<?>> result = new WeakReference<>(memoize());
+    for (int i = 0; i < 50 && result.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertNull(result.get());
+  }
+
+  @Test
+  void testPow() {
+    assertSame(METER.pow(3), METER.pow(3));
+    assertSame(METER.pow(-2), METER.pow(-2));
+  }
+
+  @Test
+  void testRoot() {
+    assertSame(METER.pow(2).root(2), METER.pow(2).root(2));
+  }
+
+  @Test
+  void testRootZero() {
+    assertThrows(ArithmeticException.class, () -> METER.root(0));
+    assertThrows(ArithmeticException.class, () -> METER.root(0));
+  }
+
+  @Test
+  void testPrefix() {
+    assertSame(MetricPrefix.milli(SECOND), SECOND.prefix(MetricPrefix.MILLI));
+  }
+
+  private static AbstractUnit<?> memoize() {
+    BaseUnit<Length> unit = new BaseUnit<>("weak", Dimensions.LENGTH);
+    return UnitAlgebra.apply(UnitAlgebra.Operation.MULTIPLY, unit, SECOND, 0,
+        () -> new BaseUnit<Length>("weak*s", Dimensions.LENGTH));
+  }
+}
@@ -0,0 +1,66 @@
+package com.github.jxen.measure.unit;
+
+import static com.github.jxen.measure.system.MetricUnits.METER;
+import static com.github.jxen.measure.system.MetricUnits.SECOND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.github.jxen.measure.converter.Converters;
+import com.github.jxen.measure.dimension.Dimensions;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.measure.quantity.Length;
+import org.junit.jupiter.api.Test;
+
+class UnitTableTest {
+
+  @Test
+  void testQuotient() {
+    assertSame(METER.divide(SECOND), METER.divide(SECOND));
+  }
+
+  @Test
+  void testProduct() {
+    assertSame(METER.multiply(METER), METER.multiply(METER));
+  }
+
+  @Test
+  void testPrefix() {
+    assertSame(MetricPrefix.kilo(METER), MetricPrefix.kilo(METER));
+  }
+
+  @Test
+  void testTransformed() {
+    assertSame(METER.multiply(3), METER.multiply(3));
+    assertNotEquals(METER.multiply(3), METER.multiply(2));
+  }
+
+  @Test
+  void testStructuralEquality() {
+    BaseUnit<Length> unit = new BaseUnit<>("x", Dimensions.LENGTH);
+    TransformedUnit<Length> first = new TransformedUnit<>(unit, Converters.fromFactor(2));
+    TransformedUnit<Length> second = new TransformedUnit<>(new BaseUnit<>("x", Dimensions.LENGTH),
+        Converters.fromFactor(2));
+    assertNotSame(first, second);
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+  }
+
+  @Test
+  void testIntern() {
+    BaseUnit<Length> unit = new BaseUnit<>("y", Dimensions.LENGTH);
+    assertSame(unit, UnitTable.intern(unit));
+    assertSame(unit, UnitTable.intern(new BaseUnit<>("y", Dimensions.LENGTH)));
+  }
+
+  @Test
+  void testInternConcurrent() {
+    List<BaseUnit<Length>> units = IntStream.range(0, 1000).parallel()
+        .mapToObj(i -> UnitTable.intern(new BaseUnit<Length>("z", Dimensions.LENGTH)))
+        .collect(Collectors.toList());
+    units.forEach(u -> assertSame(units.get(0), u));
+  }
+}
@@ -16,11 +16,11 @@ class MiscFormatService extends DefaultFormatService {
   private static final Set<String> NAMES = new HashSet<>(Arrays.asList(DEFAULT, ALT, FULL));
 
   @Override
-  public MeasureUnitFormat getUnitFormat(String name) {
-    if (FULL.equalsIgnoreCase(name)) {
+  protected MeasureUnitFormat createUnitFormat(String name) {
+    if (FULL.equals(name)) {
       return new MiscFullUnitFormat();
     }
-    if (ALT.equalsIgnoreCase(name)) {
+    if (ALT.equals(name)) {
       return new MiscAlternativeUnitFormat();
     }
     return new MiscDefaultUnitFormat();
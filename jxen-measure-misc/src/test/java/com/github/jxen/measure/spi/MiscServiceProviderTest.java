@@ -2,6 +2,7 @@ package com.github.jxen.measure.spi;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.Iterator;
 import java.util.ServiceLoader;
@@ -61,4 +62,9 @@ class MiscServiceProviderTest {
   void testGetAvailableFormatNames() {
     assertNotNull(service.getFormatService().getAvailableFormatNames(FormatType.QUANTITY_FORMAT));
   }
+
+  @Test
+  void testGetUnitFormatShared() {
+    assertSame(service.getFormatService().getUnitFormat("alt"), service.getFormatService().getUnitFormat("Alt"));
+  }
 }